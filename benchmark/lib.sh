@@ -0,0 +1,43 @@
+# Funcoes compartilhadas pelos scripts de benchmark (carregado com source)
+
+APP_PID=""
+
+build_app() {
+    if [ ! -f target/quarkus-app/quarkus-run.jar ]; then
+        ./mvnw -q package -DskipTests
+    fi
+}
+
+# start_app <arquivo de log> [-Dpropriedade=valor ...]
+start_app() {
+    local log=$1
+    shift
+    java "$@" -Dquarkus.http.port="$PORT" -jar target/quarkus-app/quarkus-run.jar > "$log" 2>&1 &
+    APP_PID=$!
+    trap stop_app EXIT
+
+    until curl -sf "$BASE_URL/q/health/ready" > /dev/null; do
+        if ! kill -0 "$APP_PID" 2> /dev/null; then
+            echo "Application failed to start, see $log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+}
+
+stop_app() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=""
+    fi
+}
+
+login() {
+    curl -sf -X POST "$BASE_URL/api/v1/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$ADMIN_EMAIL\",\"password\":\"$ADMIN_PASSWORD\"}" | jq -r .token
+}
+
+scrape_metrics() {
+    curl -sf "$BASE_URL/q/metrics" | grep -E '^(process_cpu_usage|jvm_threads_live_threads|jvm_memory_used_bytes\{area="heap")' || true
+}
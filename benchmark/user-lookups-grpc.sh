@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# REST x gRPC para a mesma busca: GET /api/v1/users/{id} x UserLookup/GetUser e
+# POST /api/v1/users/batch x UserLookup/BatchGetUsers (50 IDs), no mesmo servidor HTTP.
+# O cache de JSON fica desligado para que as duas APIs cheguem ao banco.
+#
+# Requisitos: PostgreSQL no ar (docker compose up -d postgres), wrk, ghz, curl e jq
+# Uso: benchmark/user-lookups-grpc.sh [duracao] [conexoes]
+# Resultados em target/benchmark/user-lookups-grpc.txt
+set -euo pipefail
+
+DURATION=${1:-60s}
+CONNECTIONS=${2:-400}
+THREADS=${THREADS:-4}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+ADMIN_EMAIL=${ADMIN_EMAIL:-default@admin.com}
+ADMIN_PASSWORD=${ADMIN_PASSWORD:-DefaultAdmin123!}
+RESULTS=target/benchmark
+PROTO=src/main/proto/user_lookup.proto
+
+cd "$(dirname "$0")/.."
+source benchmark/lib.sh
+
+mkdir -p "$RESULTS"
+out="$RESULTS/user-lookups-grpc.txt"
+: > "$out"
+build_app
+
+start_app "$RESULTS/app-grpc.log" -Dquarkus.cache.enabled=false
+token=$(login)
+id=$(curl -sf -H "Authorization: Bearer $token" "$BASE_URL/api/v1/auth/me" | jq -r .id)
+ids=$(curl -sf -H "Authorization: Bearer $token" "$BASE_URL/api/v1/users?pageSize=50&fields=id" | jq -c '[.users[].id]')
+
+batch_lua="$RESULTS/batch.lua"
+cat > "$batch_lua" <<LUA
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+wrk.body = '{"ids":$ids}'
+LUA
+
+ghz_run() {
+    local call=$1 data=$2
+    ghz --insecure --proto "$PROTO" --call "dri.commerce.user.v1.UserLookup/$call" \
+        -d "$data" --metadata "{\"authorization\":\"Bearer $token\"}" \
+        -c "$CONNECTIONS" -z "$DURATION" "localhost:$PORT"
+}
+
+# Aquecimento: JIT e pools de conexao nas duas pilhas
+wrk -t"$THREADS" -c"$CONNECTIONS" -d15s -H "Authorization: Bearer $token" "$BASE_URL/api/v1/users/$id" > /dev/null
+ghz_run GetUser "{\"id\":\"$id\"}" > /dev/null
+
+echo "== REST GET /api/v1/users/{id}" | tee -a "$out"
+wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency \
+    -H "Authorization: Bearer $token" "$BASE_URL/api/v1/users/$id" | tee -a "$out"
+
+echo "== gRPC UserLookup/GetUser" | tee -a "$out"
+ghz_run GetUser "{\"id\":\"$id\"}" | tee -a "$out"
+
+echo "== REST POST /api/v1/users/batch ($(jq length <<< "$ids") ids)" | tee -a "$out"
+wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -s "$batch_lua" \
+    -H "Authorization: Bearer $token" "$BASE_URL/api/v1/users/batch" | tee -a "$out"
+
+echo "== gRPC UserLookup/BatchGetUsers" | tee -a "$out"
+ghz_run BatchGetUsers "{\"ids\":$ids}" | tee -a "$out"
+
+scrape_metrics | tee -a "$out"
+stop_app
@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Buscas reativas (cliente Vert.x) x bloqueantes (JDBC no worker pool, mesmo caminho de
+# UserRepository: memo, coalescencia e roteamento para a replica) em GET /api/v1/auth/me
+# e GET /api/v1/users/{id}. O cache de JSON fica desligado para que toda requisicao chegue ao banco.
+#
+# Requisitos: PostgreSQL no ar (docker compose up -d postgres), wrk, curl e jq
+# Uso: benchmark/user-lookups.sh [duracao] [conexoes]
+# Resultados em target/benchmark/user-lookups-reactive-{true,false}.txt
+set -euo pipefail
+
+DURATION=${1:-60s}
+CONNECTIONS=${2:-400}
+THREADS=${THREADS:-4}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+ADMIN_EMAIL=${ADMIN_EMAIL:-default@admin.com}
+ADMIN_PASSWORD=${ADMIN_PASSWORD:-DefaultAdmin123!}
+RESULTS=target/benchmark
+
+cd "$(dirname "$0")/.."
+source benchmark/lib.sh
+
+mkdir -p "$RESULTS"
+build_app
+
+for reactive in true false; do
+    out="$RESULTS/user-lookups-reactive-$reactive.txt"
+    : > "$out"
+
+    start_app "$RESULTS/app-reactive-$reactive.log" \
+        -Dquarkus.cache.enabled=false -Duser.reactive-lookups.enabled="$reactive"
+    token=$(login)
+    id=$(curl -sf -H "Authorization: Bearer $token" "$BASE_URL/api/v1/auth/me" | jq -r .id)
+
+    # Aquecimento: JIT e pools de conexao
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d15s -H "Authorization: Bearer $token" "$BASE_URL/api/v1/auth/me" > /dev/null
+
+    for path in /api/v1/auth/me "/api/v1/users/$id"; do
+        echo "== user.reactive-lookups.enabled=$reactive GET $path" | tee -a "$out"
+        wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency \
+            -H "Authorization: Bearer $token" "$BASE_URL$path" | tee -a "$out"
+    done
+    scrape_metrics | tee -a "$out"
+    stop_app
+done
@@ -1,8 +1,12 @@
 package dri.commerce.auth.domain.exception;
 
+/**
+ * Falha de login esperada (inclusive em ataques de credential stuffing):
+ * lancada sem capturar stack trace, que seria o custo dominante do throw
+ */
 public class InvalidCredentialsException extends RuntimeException {
     
     public InvalidCredentialsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,8 +1,11 @@
 package dri.commerce.auth.domain.exception;
 
+/**
+ * Token rejeitado: resultado esperado da validacao, sem stack trace
+ */
 public class InvalidTokenException extends RuntimeException {
 
     public InvalidTokenException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
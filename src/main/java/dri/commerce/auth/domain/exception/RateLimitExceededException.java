@@ -3,6 +3,9 @@ package dri.commerce.auth.domain.exception;
 /**
  * Exception lancada quando um cliente excede o limite de tentativas de login
  * Deve resultar em HTTP 429 Too Many Requests
+ *
+ * Lancada sem stack trace e com a mensagem montada apenas se for lida
+ * (o GlobalExceptionHandler usa os campos, nao a mensagem)
  */
 public class RateLimitExceededException extends RuntimeException {
     
@@ -10,14 +13,23 @@ public class RateLimitExceededException extends RuntimeException {
     private final long minutesUntilReset;
 
     public RateLimitExceededException(int remainingAttempts, long minutesUntilReset) {
-        super(String.format(
-            "Limite de tentativas de login excedido. Tente novamente em %d minutos.",
-            minutesUntilReset
-        ));
+        super(null, null, false, false);
         this.remainingAttempts = remainingAttempts;
         this.minutesUntilReset = minutesUntilReset;
     }
 
+    @Override
+    public String getMessage() {
+        return messageFor(minutesUntilReset);
+    }
+
+    public static String messageFor(long minutesUntilReset) {
+        return String.format(
+            "Limite de tentativas de login excedido. Tente novamente em %d minutos.",
+            minutesUntilReset
+        );
+    }
+
     public int getRemainingAttempts() {
         return remainingAttempts;
     }
@@ -1,10 +1,14 @@
 package dri.commerce.auth.domain.service;
 
+import java.util.Optional;
+import java.util.UUID;
+
 import dri.commerce.auth.domain.exception.InvalidCredentialsException;
 import dri.commerce.user.domain.entity.UserDomain;
 import dri.commerce.user.domain.repository.UserRepository;
 import dri.commerce.user.domain.service.PasswordHashingService;
 import dri.commerce.user.domain.valueobject.UserEmail;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -17,6 +21,17 @@ public class LoginService {
     @Inject
     PasswordHashingService passwordHashingService;
 
+    /**
+     * Hash de uma senha aleatoria, verificado quando o email nao existe
+     * para que o tempo de resposta nao revele quais emails estao cadastrados
+     */
+    private String dummyHash;
+
+    @PostConstruct
+    void init() {
+        dummyHash = passwordHashingService.hash(UUID.randomUUID().toString());
+    }
+
     /**
      * Autentica um usuario com email e senha
      * 
@@ -27,18 +42,22 @@ public class LoginService {
      */
     public UserDomain authenticate(String email, String plainPassword) {
         UserEmail userEmail = new UserEmail(email);
-        UserDomain user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new InvalidCredentialsException("Email ou senha invalidos"));
+        Optional<UserDomain> found = userRepository.findByEmail(userEmail);
 
-        if (!user.isActive()) {
-            throw new InvalidCredentialsException("Usuario inativo");
-        }
+        // Sempre executa o bcrypt, mesmo quando o email nao existe (ou foi descartado
+        // pelo filtro de emails), para manter o tempo de resposta uniforme
+        String hash = found.map(user -> user.password().value()).orElse(dummyHash);
+        boolean passwordMatches = passwordHashingService.verify(plainPassword, hash);
 
-        boolean passwordMatches = passwordHashingService.verify(plainPassword, user.password().value());
-        if (!passwordMatches) {
+        if (found.isEmpty() || !passwordMatches) {
             throw new InvalidCredentialsException("Email ou senha invalidos");
         }
 
+        UserDomain user = found.get();
+        if (!user.isActive()) {
+            throw new InvalidCredentialsException("Usuario inativo");
+        }
+
         return user;
     }
 
@@ -7,20 +7,24 @@ import dri.commerce.auth.application.usecase.RefreshTokenUseCase;
 import dri.commerce.auth.presentation.annotation.RateLimit;
 import dri.commerce.auth.presentation.dto.LoginRequest;
 import dri.commerce.auth.presentation.dto.LoginResponse;
-import dri.commerce.auth.presentation.dto.MeResponse;
 import dri.commerce.auth.presentation.dto.RefreshTokenRequest;
 import dri.commerce.auth.presentation.dto.RefreshTokenResponse;
-import dri.commerce.user.application.usecase.FindUserByIdUseCase;
-import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.presentation.cache.ConditionalUserResponder;
+import dri.commerce.user.presentation.fields.UserFieldSelection;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -36,7 +40,7 @@ public class AuthController {
     RefreshTokenUseCase refreshTokenUseCase;
 
     @Inject
-    FindUserByIdUseCase findUserByIdUseCase;
+    ConditionalUserResponder conditionalUserResponder;
 
     @Inject
     JsonWebToken jwt;  
@@ -53,6 +57,7 @@ public class AuthController {
      * @throws InvalidCredentialsException se credenciais estiverem incorretas (401)
      * @throws RateLimitExceededException se limite de tentativas for excedido (429)
      */
+    @RunOnVirtualThread
     @POST
     @Path("/login")
     @PermitAll
@@ -77,6 +82,7 @@ public class AuthController {
      * @return 200 OK com novo accessToken e expiresIn
      * @throws InvalidTokenException se refresh token for invalido ou expirado
      */
+    @RunOnVirtualThread
     @POST
     @Path("/refresh")
     @PermitAll
@@ -91,20 +97,25 @@ public class AuthController {
         return Response.ok(response).build();
     }
 
+    /**
+     * Dados do usuario autenticado
+     * GET /api/v1/auth/me
+     *
+     * A resposta vem do cache de JSON serializado (invalidado pelos use cases de escrita);
+     * em um miss a busca e reativa e o endpoint roda no event loop.
+     * Com If-None-Match igual a ETag atual responde 304 sem corpo.
+     * fields= (ex: fields=id,name) limita os campos da resposta
+     */
     @GET
     @Path("/me")
     @RolesAllowed({"ADMIN", "CUSTOMER", "SELLER"})
-    public Response getCurrentUser() {
+    public Uni<Response> getCurrentUser(
+            @QueryParam("fields") String fields,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
+    ) {
         String userId = jwt.getSubject();
-        UserDomain user = findUserByIdUseCase.execute(userId);
-
-        MeResponse userResponse = new MeResponse(
-            user.id().value(),
-            user.name(),
-            user.email().value(),
-            user.role()
-        );
+        UserFieldSelection selection = UserFieldSelection.parse(fields, UserFieldSelection.ME);
 
-        return Response.ok(userResponse).build();
+        return conditionalUserResponder.currentUser(userId, ifNoneMatch, selection);
     }
 }
@@ -0,0 +1,12 @@
+package dri.commerce.config;
+
+/**
+ * Exception lancada quando nao ha vaga para acessar o banco dentro do tempo limite
+ * Deve resultar em HTTP 503 Service Unavailable
+ */
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
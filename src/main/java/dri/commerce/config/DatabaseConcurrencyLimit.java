@@ -0,0 +1,21 @@
+package dri.commerce.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Limita, em virtual threads, o numero de chamadas simultaneas ao banco ao tamanho do pool JDBC.
+ * Sem o limite, milhares de virtual threads disputariam as conexoes do Agroal e
+ * estourariam o acquisition timeout; com ele, esperam em um semaforo barato.
+ *
+ * Em threads de plataforma (worker pool) nao tem efeito: o proprio pool ja limita a concorrencia.
+ */
+@InterceptorBinding
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DatabaseConcurrencyLimit {
+}
@@ -0,0 +1,82 @@
+package dri.commerce.config;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Semaforo dimensionado pelo pool JDBC, aplicado apenas em virtual threads.
+ * Reentrante: chamadas aninhadas na mesma thread usam a permissao ja obtida
+ * (evita deadlock quando todas as permissoes estao com threads que chamam outro repositorio).
+ * Roda antes do interceptor de @Transactional, para nao segurar conexao enquanto espera.
+ */
+@DatabaseConcurrencyLimit
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class DatabaseConcurrencyLimitInterceptor {
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    @ConfigProperty(name = "quarkus.datasource.jdbc.max-size", defaultValue = "20")
+    int poolSize;
+
+    @ConfigProperty(name = "user.virtual-threads.db-permit-timeout", defaultValue = "5s")
+    Duration permitTimeout;
+
+    @Inject
+    MeterRegistry registry;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(poolSize, true);
+
+        Gauge.builder("db.virtual-threads.waiting", permits, Semaphore::getQueueLength)
+                .description("Virtual threads aguardando vaga para acessar o banco")
+                .register(registry);
+        Gauge.builder("db.virtual-threads.permits.available", permits, Semaphore::availablePermits)
+                .description("Vagas livres para acesso ao banco a partir de virtual threads")
+                .register(registry);
+    }
+
+    @AroundInvoke
+    Object limit(InvocationContext context) throws Exception {
+        if (!Thread.currentThread().isVirtual()) {
+            return context.proceed();
+        }
+
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            depth[0]++;
+            try {
+                return context.proceed();
+            } finally {
+                depth[0]--;
+            }
+        }
+
+        if (!permits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new DatabaseBusyException("Banco de dados ocupado, tente novamente em instantes");
+        }
+
+        depth[0] = 1;
+        try {
+            return context.proceed();
+        } finally {
+            DEPTH.remove();
+            permits.release();
+        }
+    }
+}
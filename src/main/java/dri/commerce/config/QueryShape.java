@@ -0,0 +1,23 @@
+package dri.commerce.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Formato da consulta executada pelo metodo (ex: "pk_lookup", "page_scan"),
+ * usado como tag das metricas de repositorio. Sem a anotacao, a tag e o nome do metodo.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryShape {
+
+    String value();
+
+    /**
+     * Consultas que podem devolver muitas linhas por design (ex: streaming, listagem de job)
+     * nao disparam o alerta de resultado sem paginacao
+     */
+    boolean bounded() default false;
+}
@@ -0,0 +1,22 @@
+package dri.commerce.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Contagem de chamadas ao repositorio por metodo dentro de uma requisicao (apenas em dev)
+ */
+@RequestScoped
+public class RepositoryCallTracker {
+
+    private final Map<String, Integer> calls = new HashMap<>();
+
+    /**
+     * @return Numero de chamadas ao metodo nesta requisicao, incluindo a atual
+     */
+    public int record(String method) {
+        return calls.merge(method, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,20 @@
+package dri.commerce.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Instrumenta os metodos do repositorio:
+ * - histograma de latencia por metodo e formato de consulta (timer repository.calls)
+ * - log das chamadas acima de user.repository.slow-threshold, com o formato dos parametros e o numero de linhas
+ * - em dev, alerta de possivel N+1 e de resultados sem paginacao
+ */
+@InterceptorBinding
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RepositoryMetrics {
+}
@@ -0,0 +1,168 @@
+package dri.commerce.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.domain.entity.Page;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.arc.Arc;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Roda depois do limite de concorrencia e antes de @Transactional:
+ * a latencia medida inclui o commit, mas nao a espera por vaga no banco.
+ */
+@RepositoryMetrics
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 150)
+public class RepositoryMetricsInterceptor {
+
+    private static final Logger LOG = Logger.getLogger("dri.commerce.repository.slow");
+
+    @ConfigProperty(name = "user.repository.slow-threshold", defaultValue = "200ms")
+    Duration slowThreshold;
+
+    @ConfigProperty(name = "user.repository.diagnostics.enabled", defaultValue = "false")
+    boolean diagnostics;
+
+    @ConfigProperty(name = "user.repository.diagnostics.repeated-calls", defaultValue = "10")
+    int repeatedCallsThreshold;
+
+    @ConfigProperty(name = "user.repository.diagnostics.unbounded-rows", defaultValue = "500")
+    int unboundedRowsThreshold;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Instance<RepositoryCallTracker> callTracker;
+
+    /**
+     * Timers e tags resolvidos uma vez por metodo: no caminho quente resta um get no mapa e o record
+     */
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        MethodMeters method = meters.computeIfAbsent(context.getMethod(), this::metersOf);
+
+        if (diagnostics) {
+            checkRepeatedCalls(method.qualifiedName());
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Exception e) {
+            record(context, method, start, false, null);
+            throw e;
+        }
+
+        if (result instanceof Uni<?> uni) {
+            return uni.onItemOrFailure().invoke((item, failure) ->
+                    record(context, method, start, failure == null, item));
+        }
+
+        record(context, method, start, true, result);
+        if (diagnostics && !method.bounded() && result instanceof Collection<?> rows
+                && rows.size() > unboundedRowsThreshold) {
+            LOG.warnf("Unbounded result: %s returned %d rows without pagination",
+                    method.qualifiedName(), rows.size());
+        }
+        return result;
+    }
+
+    private void record(InvocationContext context, MethodMeters method, long start, boolean success, Object result) {
+        long elapsed = System.nanoTime() - start;
+        (success ? method.success() : method.error()).record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowThreshold.toNanos()) {
+            LOG.warnf("Slow repository call: %s [%s] took %dms, params=%s, rows=%s, outcome=%s",
+                    method.qualifiedName(), method.shape(), elapsed / 1_000_000,
+                    parameterShape(context.getParameters()), rowCount(result), success ? "success" : "error");
+        }
+    }
+
+    private MethodMeters metersOf(Method method) {
+        String repository = method.getDeclaringClass().getSimpleName();
+        QueryShape queryShape = method.getAnnotation(QueryShape.class);
+        String shape = queryShape != null ? queryShape.value() : method.getName();
+
+        return new MethodMeters(
+                repository + "." + method.getName(),
+                shape,
+                queryShape != null && queryShape.bounded(),
+                timer(repository, method.getName(), shape, "success"),
+                timer(repository, method.getName(), shape, "error"));
+    }
+
+    private Timer timer(String repository, String method, String shape, String outcome) {
+        return Timer.builder("repository.calls")
+                .description("Latencia dos metodos de repositorio")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("shape", shape)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private void checkRepeatedCalls(String method) {
+        if (!Arc.container().requestContext().isActive()) {
+            return;
+        }
+
+        int calls = callTracker.get().record(method);
+        if (calls == repeatedCallsThreshold) {
+            LOG.warnf("Possible N+1: %s called %d times in the same request; consider a batch query", method, calls);
+        }
+    }
+
+    /**
+     * Formato dos parametros sem os valores (nao loga dados pessoais), ex: [String(36), Collection[500]]
+     */
+    private static String parameterShape(Object[] parameters) {
+        StringJoiner shape = new StringJoiner(", ", "[", "]");
+        for (Object parameter : parameters) {
+            shape.add(switch (parameter) {
+                case null -> "null";
+                case String value -> "String(" + value.length() + ")";
+                case Collection<?> values -> "Collection[" + values.size() + "]";
+                case Map<?, ?> values -> "Map[" + values.size() + "]";
+                default -> parameter.getClass().getSimpleName();
+            });
+        }
+        return shape.toString();
+    }
+
+    private record MethodMeters(String qualifiedName, String shape, boolean bounded, Timer success, Timer error) {
+    }
+
+    private static String rowCount(Object result) {
+        return switch (result) {
+            case null -> "0";
+            case Optional<?> value -> value.isPresent() ? "1" : "0";
+            case Collection<?> values -> String.valueOf(values.size());
+            case Map<?, ?> values -> String.valueOf(values.size());
+            case Page<?> page -> String.valueOf(page.content().size());
+            default -> "1";
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package dri.commerce.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Detecta virtual threads presas a carrier thread (pinning), por exemplo em blocos
+ * synchronized do driver JDBC ou do Agroal, a partir do evento JFR jdk.VirtualThreadPinned.
+ *
+ * - Cada ocorrencia acima de user.virtual-threads.pinning-threshold e contada no timer
+ *   virtual.threads.pinned, com o ponto de origem (primeiro frame fora do JDK) como tag
+ * - A primeira ocorrencia de cada ponto e logada com a pilha completa
+ */
+@ApplicationScoped
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger LOG = Logger.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 200;
+
+    @ConfigProperty(name = "quarkus.virtual-threads.enabled", defaultValue = "true")
+    boolean virtualThreadsEnabled;
+
+    @ConfigProperty(name = "user.virtual-threads.pinning-threshold", defaultValue = "20ms")
+    Duration threshold;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            LOG.infof("Virtual thread pinning monitor started (threshold %s)", threshold);
+        } catch (RuntimeException e) {
+            LOG.warnf("Virtual thread pinning monitor unavailable: %s", e.getMessage());
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = pinningSite(frames);
+
+        // Limita a cardinalidade da tag caso surjam muitos pontos distintos
+        String tag = reportedSites.size() < MAX_SITES || reportedSites.contains(site) ? site : "other";
+        Timer.builder("virtual.threads.pinned")
+                .description("Tempo em que virtual threads ficaram presas a carrier thread")
+                .tag("site", tag)
+                .register(registry)
+                .record(event.getDuration());
+
+        if (reportedSites.size() < MAX_SITES && reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            for (RecordedFrame frame : frames) {
+                stack.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            LOG.warnf("Virtual thread pinned for %dms at %s%s", event.getDuration().toMillis(), site, stack);
+        }
+    }
+
+    private static String pinningSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,30 @@
+package dri.commerce.user.application.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Marca use cases que apenas leem dados.
+ * Suas consultas podem ser atendidas pela replica de leitura, exceto quando:
+ * - o usuario autenticado (ou o usuario consultado) escreveu algo ha pouco tempo
+ * - a replica esta atrasada alem de user.read-routing.max-lag
+ * - ha uma transacao ativa
+ *
+ * Exemplo de uso:
+ * <pre>
+ * {@code
+ * @ReadOnly
+ * @ApplicationScoped
+ * public class ListAllUsersUseCase { ... }
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadOnly {
+}
@@ -0,0 +1,68 @@
+package dri.commerce.user.application.archive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.exception.EmailAlreadyExistsException;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.valueobject.UserId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Ponto unico de restauracao de usuarios arquivados (users_archive).
+ * Toda ativacao (individual, administrativa ou em lote) passa por aqui, para que
+ * o arquivamento seja transparente para quem reativa um usuario.
+ * O usuario volta inativo; cabe ao chamador ativa-lo.
+ */
+@ApplicationScoped
+public class ArchivedUserRestorer {
+
+    @Inject
+    UserRepository userRepository;
+
+    /**
+     * Resultado da restauracao de varios usuarios
+     *
+     * @param restored IDs devolvidos para a tabela principal
+     * @param conflicts IDs arquivados cujo email ja foi reutilizado
+     */
+    public record Restored(List<UserId> restored, List<UserId> conflicts) {}
+
+    /**
+     * Busca o usuario e, se nao existir na tabela principal, restaura-o do arquivo
+     *
+     * @throws EmailAlreadyExistsException se o usuario estava arquivado e o email foi reutilizado
+     */
+    public Optional<UserDomain> findOrRestore(UserId id) {
+        Optional<UserDomain> user = userRepository.findById(id);
+        if (user.isPresent() || !userRepository.restoreArchived(id)) {
+            return user;
+        }
+        return userRepository.findById(id);
+    }
+
+    /**
+     * Restaura os IDs que estiverem arquivados (cada um em sua propria transacao)
+     *
+     * @param ids IDs ausentes da tabela principal
+     */
+    public Restored restoreAll(Collection<UserId> ids) {
+        List<UserId> restored = new ArrayList<>();
+        List<UserId> conflicts = new ArrayList<>();
+
+        for (UserId id : ids) {
+            try {
+                if (userRepository.restoreArchived(id)) {
+                    restored.add(id);
+                }
+            } catch (EmailAlreadyExistsException e) {
+                conflicts.add(id);
+            }
+        }
+        return new Restored(restored, conflicts);
+    }
+}
@@ -0,0 +1,73 @@
+package dri.commerce.user.application.cache;
+
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.domain.valueobject.UserId;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Ponto unico de invalidacao dos caches de leitura de usuario.
+ * Deve ser chamado pelos use cases de escrita apos a persistencia,
+ * para que a proxima leitura reconstrua a resposta a partir do banco.
+ * A invalidacao tambem e propagada aos demais nos (UserChangeBroadcaster)
+ * e publicada no UserChangeFeed.
+ */
+@ApplicationScoped
+public class UserCacheInvalidator {
+
+    public static final String USER_DETAIL_CACHE = "user-detail-json";
+    public static final String CURRENT_USER_CACHE = "current-user-json";
+
+    private static final Logger LOG = Logger.getLogger(UserCacheInvalidator.class);
+
+    @Inject
+    @CacheName(USER_DETAIL_CACHE)
+    Cache userDetailCache;
+
+    @Inject
+    @CacheName(CURRENT_USER_CACHE)
+    Cache currentUserCache;
+
+    @Inject
+    UserChangeBroadcaster userChangeBroadcaster;
+
+    @Inject
+    UserChangeFeed userChangeFeed;
+
+    /**
+     * Remove as respostas em cache de um usuario
+     *
+     * @param id ID do usuario alterado
+     */
+    public void invalidate(UserId id) {
+        userDetailCache.invalidate(id.value()).await().indefinitely();
+        currentUserCache.invalidate(id.value()).await().indefinitely();
+        userChangeBroadcaster.userChanged(id);
+        userChangeFeed.publish(id.value());
+    }
+
+    /**
+     * Invalidacao recebida de outro no: apenas local e sem bloquear (roda no event loop)
+     */
+    public void invalidateLocal(String id) {
+        userDetailCache.invalidate(id).subscribe().with(ignored -> { }, this::logFailure);
+        currentUserCache.invalidate(id).subscribe().with(ignored -> { }, this::logFailure);
+        userChangeFeed.publish(id);
+    }
+
+    /**
+     * Descarta todas as respostas em cache (ex: apos perder mensagens de invalidacao)
+     */
+    public void invalidateAllLocal() {
+        userDetailCache.invalidateAll().subscribe().with(ignored -> { }, this::logFailure);
+        currentUserCache.invalidateAll().subscribe().with(ignored -> { }, this::logFailure);
+        userChangeFeed.publishResync();
+    }
+
+    private void logFailure(Throwable failure) {
+        LOG.warnf("Failed to invalidate user cache: %s", failure.getMessage());
+    }
+}
@@ -0,0 +1,11 @@
+package dri.commerce.user.application.cache;
+
+import dri.commerce.user.domain.valueobject.UserId;
+
+/**
+ * Propaga para os demais nos que um usuario mudou, para que descartem seus caches locais
+ */
+public interface UserChangeBroadcaster {
+
+    void userChanged(UserId id);
+}
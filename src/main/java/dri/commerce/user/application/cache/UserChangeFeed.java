@@ -0,0 +1,42 @@
+package dri.commerce.user.application.cache;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.SerializedProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Fluxo local de alteracoes de usuario para assinantes externos (ex: WatchUserChanges no gRPC).
+ * Alimentado pelo UserCacheInvalidator, entao inclui alteracoes feitas neste no e as
+ * recebidas de outros nos pelo barramento de invalidacao.
+ */
+@ApplicationScoped
+public class UserChangeFeed {
+
+    private static final int SUBSCRIBER_BUFFER = 1024;
+
+    /**
+     * @param userId Usuario alterado (null quando resync)
+     * @param resync Alteracoes podem ter sido perdidas: o assinante deve recarregar o que mantem
+     */
+    public record UserChange(String userId, boolean resync) {}
+
+    /** Serializado: publicacoes chegam de varias threads (requisicoes e event loop) */
+    private final SerializedProcessor<UserChange, UserChange> processor = BroadcastProcessor.<UserChange>create().serialized();
+
+    void publish(String userId) {
+        processor.onNext(new UserChange(userId, false));
+    }
+
+    void publishResync() {
+        processor.onNext(new UserChange(null, true));
+    }
+
+    /**
+     * Alteracoes a partir da assinatura. Um assinante lento demais recebe falha
+     * (buffer cheio) em vez de perder alteracoes silenciosamente.
+     */
+    public Multi<UserChange> stream() {
+        return processor.onOverflow().buffer(SUBSCRIBER_BUFFER);
+    }
+}
@@ -0,0 +1,12 @@
+package dri.commerce.user.application.importer;
+
+/**
+ * Linha de entrada da importacao, antes da validacao
+ */
+public record ImportRecord(
+        String name,
+        String email,
+        String password,
+        String role
+) {
+}
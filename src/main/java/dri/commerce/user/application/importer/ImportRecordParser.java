@@ -0,0 +1,113 @@
+package dri.commerce.user.application.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converte linhas de CSV ou NDJSON em ImportRecord.
+ * No CSV a primeira linha e o cabecalho (name, email, password e, opcionalmente, role,
+ * em qualquer ordem); campos podem vir entre aspas duplas, com "" para aspas literais.
+ */
+public class ImportRecordParser {
+
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+
+    private int nameColumn = -1;
+    private int emailColumn = -1;
+    private int passwordColumn = -1;
+    private int roleColumn = -1;
+
+    public ImportRecordParser(ImportFormat format, ObjectMapper objectMapper) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return true se o formato tem linha de cabecalho
+     */
+    public boolean hasHeader() {
+        return format == ImportFormat.CSV;
+    }
+
+    public void readHeader(String line) {
+        List<String> columns = splitCsv(line);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase()) {
+                case "name" -> nameColumn = i;
+                case "email" -> emailColumn = i;
+                case "password" -> passwordColumn = i;
+                case "role" -> roleColumn = i;
+                default -> {
+                    // coluna ignorada
+                }
+            }
+        }
+
+        if (nameColumn < 0 || emailColumn < 0 || passwordColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain name, email and password columns");
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException se a linha estiver malformada
+     */
+    public ImportRecord parse(String line) {
+        if (format == ImportFormat.NDJSON) {
+            try {
+                return objectMapper.readValue(line, ImportRecord.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        List<String> fields = splitCsv(line);
+        return new ImportRecord(
+                field(fields, nameColumn),
+                field(fields, emailColumn),
+                field(fields, passwordColumn),
+                field(fields, roleColumn)
+        );
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : null;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+
+        fields.add(current.toString());
+        return fields;
+    }
+}
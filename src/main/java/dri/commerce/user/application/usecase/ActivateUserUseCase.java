@@ -1,6 +1,10 @@
 package dri.commerce.user.application.usecase;
 
+import dri.commerce.user.application.archive.ArchivedUserRestorer;
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.domain.entity.UserChangeSet;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.exception.EmailAlreadyExistsException;
 import dri.commerce.user.domain.exception.UserNotFoundException;
 import dri.commerce.user.domain.repository.UserRepository;
 import dri.commerce.user.domain.valueobject.UserId;
@@ -16,26 +20,32 @@ public class ActivateUserUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
+    @Inject
+    ArchivedUserRestorer archivedUserRestorer;
+
     /**
      * Reativa um usuario previamente desativado
      * 
      * @param id ID do usuario a reativar
      * @return Usuario reativado
-     * @throws UserNotFoundException se usuario nao existir
+     * @throws UserNotFoundException se usuario nao existir (nem no arquivo)
+     * @throws EmailAlreadyExistsException se o usuario estava arquivado e o email foi reutilizado
      */
     public UserDomain execute(String id) {
         UserId userId = UserId.from(id);
 
-        UserDomain user = userRepository.findById(userId)
+        UserDomain user = archivedUserRestorer.findOrRestore(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
         if (user.isActive()) {
             return user;
         }
 
-        UserDomain activatedUser = user.activate();
-
-        userRepository.update(activatedUser);
+        UserDomain activatedUser = userRepository.update(user.apply(UserChangeSet.of().active(true)));
+        userCacheInvalidator.invalidate(userId);
 
         return activatedUser;
     }
@@ -1,6 +1,9 @@
 package dri.commerce.user.application.usecase;
 
+import dri.commerce.user.application.archive.ArchivedUserRestorer;
+import dri.commerce.user.application.cache.UserCacheInvalidator;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
 import dri.commerce.user.domain.enums.Role;
 import dri.commerce.user.domain.exception.UserNotFoundException;
 import dri.commerce.user.domain.repository.UserRepository;
@@ -15,17 +18,31 @@ public class AdminUpdateUserUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
     @Inject
     UserDomainService userDomainService;
 
+    @Inject
+    ArchivedUserRestorer archivedUserRestorer;
+
     public UserDomain execute(String id, String name, String email, Role role, Boolean active) {
         UserId userId = UserId.from(id);
 
-        UserDomain currentUser = userRepository.findById(userId)
+        // Reativar traz de volta usuarios arquivados
+        UserDomain currentUser = (Boolean.TRUE.equals(active)
+                ? archivedUserRestorer.findOrRestore(userId)
+                : userRepository.findById(userId))
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
-        UserDomain updatedUser = userDomainService.adminUpdateUser(currentUser, name, email, role, active);
+        UserUpdate update = userDomainService.adminUpdateUser(currentUser, name, email, role, active);
+
+        UserDomain savedUser = userRepository.update(update);
+        if (update.hasChanges()) {
+            userCacheInvalidator.invalidate(userId);
+        }
 
-        return userRepository.update(updatedUser);
+        return savedUser;
     }
 }
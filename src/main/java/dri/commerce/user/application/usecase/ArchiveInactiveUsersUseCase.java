@@ -0,0 +1,59 @@
+package dri.commerce.user.application.usecase;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.valueobject.UserId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Use case para mover usuarios inativos ha muito tempo para o arquivo,
+ * mantendo a tabela principal (e seus indices) com os usuarios em uso
+ */
+@ApplicationScoped
+public class ArchiveInactiveUsersUseCase {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
+    @ConfigProperty(name = "user.archive.inactive-for", defaultValue = "90d")
+    Duration inactiveFor;
+
+    @ConfigProperty(name = "user.archive.batch-size", defaultValue = "1000")
+    int batchSize;
+
+    @ConfigProperty(name = "user.archive.max-batches", defaultValue = "100")
+    int maxBatches;
+
+    /**
+     * Arquiva em lotes (uma transacao por lote) ate acabarem os candidatos
+     * ou atingir user.archive.max-batches
+     *
+     * @return Total de usuarios arquivados
+     */
+    public long execute() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(inactiveFor);
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<UserId> archived = userRepository.archiveInactive(cutoff, batchSize);
+            archived.forEach(userCacheInvalidator::invalidate);
+            total += archived.size();
+
+            if (archived.size() < batchSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+}
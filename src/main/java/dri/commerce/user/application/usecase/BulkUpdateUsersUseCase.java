@@ -0,0 +1,143 @@
+package dri.commerce.user.application.usecase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import dri.commerce.user.application.archive.ArchivedUserRestorer;
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.domain.enums.BulkUserOperation;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.valueobject.UserId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Use case para ativar, desativar ou alterar o role de muitos usuarios de uma vez.
+ * Os IDs sao processados em lotes (user.bulk.chunk-size), cada lote em sua propria
+ * transacao com um unico UPDATE set-based; lotes ja concluidos permanecem gravados
+ * mesmo se um lote posterior falhar. Na ativacao, IDs arquivados sao restaurados.
+ */
+@ApplicationScoped
+public class BulkUpdateUsersUseCase {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
+    @Inject
+    ArchivedUserRestorer archivedUserRestorer;
+
+    @ConfigProperty(name = "user.bulk.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    public enum ItemStatus {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        INVALID_ID,
+        EMAIL_CONFLICT
+    }
+
+    /**
+     * Resultado da operacao para um ID
+     *
+     * @param id ID informado na requisicao
+     * @param status Resultado da operacao
+     */
+    public record ItemResult(String id, ItemStatus status) {}
+
+    /**
+     * Resultado da operacao em lote, na ordem dos IDs informados (sem duplicados)
+     *
+     * @param operation Operacao aplicada
+     * @param results Resultado por ID
+     */
+    public record BulkResult(BulkUserOperation operation, List<ItemResult> results) {
+
+        public long count(ItemStatus status) {
+            return results.stream().filter(result -> result.status() == status).count();
+        }
+    }
+
+    /**
+     * Aplica a operacao a todos os IDs
+     *
+     * @param ids IDs dos usuarios
+     * @param operation Operacao a aplicar
+     * @param role Novo role (obrigatorio para CHANGE_ROLE)
+     * @return Resultado por ID
+     */
+    public BulkResult execute(List<String> ids, BulkUserOperation operation, Role role) {
+        if (operation == BulkUserOperation.CHANGE_ROLE && role == null) {
+            throw new IllegalArgumentException("Role is required for CHANGE_ROLE");
+        }
+
+        Map<String, ItemStatus> statuses = new LinkedHashMap<>();
+        List<UserId> validIds = new ArrayList<>();
+
+        for (String id : ids) {
+            if (statuses.containsKey(id)) {
+                continue;
+            }
+            try {
+                validIds.add(UserId.from(id));
+                statuses.put(id, ItemStatus.NOT_FOUND);
+            } catch (IllegalArgumentException e) {
+                statuses.put(id, ItemStatus.INVALID_ID);
+            }
+        }
+
+        for (int from = 0; from < validIds.size(); from += chunkSize) {
+            List<UserId> chunk = validIds.subList(from, Math.min(from + chunkSize, validIds.size()));
+
+            Map<UserId, Boolean> outcome = switch (operation) {
+                case ACTIVATE -> userRepository.updateActiveStatus(chunk, true);
+                case DEACTIVATE -> userRepository.updateActiveStatus(chunk, false);
+                case CHANGE_ROLE -> userRepository.updateRole(chunk, role);
+            };
+
+            if (operation == BulkUserOperation.ACTIVATE && outcome.size() < chunk.size()) {
+                outcome = activateArchived(chunk, outcome, statuses);
+            }
+
+            outcome.forEach((userId, changed) -> {
+                statuses.put(userId.value(), changed ? ItemStatus.UPDATED : ItemStatus.UNCHANGED);
+                if (changed) {
+                    userCacheInvalidator.invalidate(userId);
+                }
+            });
+        }
+
+        List<ItemResult> results = statuses.entrySet().stream()
+                .map(entry -> new ItemResult(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new BulkResult(operation, results);
+    }
+
+    /**
+     * IDs ausentes da tabela principal podem estar arquivados: sao restaurados e ativados
+     */
+    private Map<UserId, Boolean> activateArchived(List<UserId> chunk, Map<UserId, Boolean> outcome,
+            Map<String, ItemStatus> statuses) {
+        List<UserId> missing = chunk.stream().filter(id -> !outcome.containsKey(id)).toList();
+        ArchivedUserRestorer.Restored restored = archivedUserRestorer.restoreAll(missing);
+
+        restored.conflicts().forEach(id -> statuses.put(id.value(), ItemStatus.EMAIL_CONFLICT));
+        if (restored.restored().isEmpty()) {
+            return outcome;
+        }
+
+        Map<UserId, Boolean> merged = new HashMap<>(outcome);
+        merged.putAll(userRepository.updateActiveStatus(restored.restored(), true));
+        return merged;
+    }
+}
@@ -1,5 +1,7 @@
 package dri.commerce.user.application.usecase;
 
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.domain.entity.UserChangeSet;
 import dri.commerce.user.domain.entity.UserDomain;
 import dri.commerce.user.domain.exception.UserNotFoundException;
 import dri.commerce.user.domain.repository.UserRepository;
@@ -18,6 +20,9 @@ public class DeactivateUserUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
     @Inject
     UserValidationService userValidationService;
 
@@ -35,8 +40,7 @@ public class DeactivateUserUseCase {
 
         userValidationService.validateUserDeletion(user);
 
-        UserDomain deactivatedUser = user.deactivate();
-
-        userRepository.update(deactivatedUser);
+        userRepository.update(user.apply(UserChangeSet.of().active(false)));
+        userCacheInvalidator.invalidate(userId);
     }
 }
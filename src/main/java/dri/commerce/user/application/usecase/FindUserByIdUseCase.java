@@ -1,22 +1,92 @@
 package dri.commerce.user.application.usecase;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import dri.commerce.user.application.annotation.ReadOnly;
 import dri.commerce.user.domain.entity.UserDomain;
 import dri.commerce.user.domain.exception.UserNotFoundException;
+import dri.commerce.user.domain.repository.ReactiveUserRepository;
 import dri.commerce.user.domain.repository.UserRepository;
 import dri.commerce.user.domain.valueobject.UserId;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.control.ActivateRequestContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+@ReadOnly
 @ApplicationScoped
 public class FindUserByIdUseCase {
 
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    ReactiveUserRepository reactiveUserRepository;
+
+    /**
+     * Proxy deste bean: chamadas internas passam pelos interceptors (@ReadOnly)
+     */
+    @Inject
+    FindUserByIdUseCase self;
+
+    @ConfigProperty(name = "user.reactive-lookups.enabled", defaultValue = "true")
+    boolean reactiveLookups;
+
+    @ActivateRequestContext
     public UserDomain execute(String id) {
         UserId userId = UserId.from(id);
 
         return userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     } 
+
+    /**
+     * Mesma busca sem bloquear a thread chamadora (usada pelos endpoints GET /users/{id} e /auth/me).
+     * Com user.reactive-lookups.enabled=false executa execute() no worker pool, pelo proxy e sem
+     * transacao: exatamente o caminho bloqueante (memo, coalescencia e replica), para comparar
+     * as duas implementacoes sob carga.
+     *
+     * A consulta reativa e montada durante esta chamada, ainda dentro do @ReadOnly,
+     * para que a escolha entre replica e primario valha tambem para ela.
+     */
+    public Uni<UserDomain> executeAsync(String id) {
+        if (!reactiveLookups) {
+            return Uni.createFrom().item(() -> self.execute(id))
+                    .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        }
+
+        UserId userId;
+        try {
+            userId = UserId.from(id);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        return reactiveUserRepository.findById(userId)
+                .map(user -> user.orElseThrow(() -> new UserNotFoundException("User not found with id: " + id)));
+    }
+
+    /**
+     * Versao atual do usuario (para GET condicional), sem carregar a linha completa.
+     * Vazio se o usuario nao existir ou com as buscas reativas desligadas, caso em
+     * que o chamador segue para a busca completa.
+     */
+    public Uni<Optional<LocalDateTime>> findVersionAsync(String id) {
+        if (!reactiveLookups) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+
+        UserId userId;
+        try {
+            userId = UserId.from(id);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        return reactiveUserRepository.findVersion(userId);
+    }
 }
@@ -0,0 +1,70 @@
+package dri.commerce.user.application.usecase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dri.commerce.user.application.annotation.ReadOnly;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.valueobject.UserId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Use case para buscar varios usuarios de uma vez (ex: nomes dos vendedores de uma pagina de produtos),
+ * com uma unica consulta ao banco em vez de uma por ID
+ */
+@ReadOnly
+@ApplicationScoped
+public class FindUsersByIdsUseCase {
+
+    @Inject
+    UserRepository userRepository;
+
+    /**
+     * Resultado da busca em lote
+     *
+     * @param users Usuarios encontrados, na ordem dos IDs informados (sem duplicados)
+     * @param missing IDs inexistentes ou invalidos, na ordem informada
+     */
+    public record BatchResult(List<UserDomain> users, List<String> missing) {}
+
+    /**
+     * @param ids IDs dos usuarios (duplicados sao ignorados)
+     * @return Usuarios encontrados e IDs nao encontrados
+     */
+    public BatchResult execute(List<String> ids) {
+        Set<String> requested = new LinkedHashSet<>(ids);
+        List<UserId> validIds = new ArrayList<>(requested.size());
+
+        for (String id : requested) {
+            try {
+                validIds.add(UserId.from(id));
+            } catch (IllegalArgumentException e) {
+                // ID invalido nao existe: reportado como ausente
+            }
+        }
+
+        Map<String, UserDomain> found = new HashMap<>();
+        for (UserDomain user : userRepository.findAllByIds(validIds)) {
+            found.put(user.id().value(), user);
+        }
+
+        List<UserDomain> users = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : requested) {
+            UserDomain user = found.get(id);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        return new BatchResult(users, missing);
+    }
+}
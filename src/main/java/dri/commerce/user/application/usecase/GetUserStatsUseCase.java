@@ -0,0 +1,17 @@
+package dri.commerce.user.application.usecase;
+
+import dri.commerce.user.domain.entity.UserStats;
+import dri.commerce.user.domain.repository.UserStatsRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class GetUserStatsUseCase {
+
+    @Inject
+    UserStatsRepository userStatsRepository;
+
+    public UserStats execute() {
+        return userStatsRepository.current();
+    }
+}
@@ -0,0 +1,343 @@
+package dri.commerce.user.application.usecase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dri.commerce.user.application.importer.ImportFormat;
+import dri.commerce.user.application.importer.ImportRecord;
+import dri.commerce.user.application.importer.ImportRecordParser;
+import dri.commerce.user.domain.entity.ImportJob;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.enums.ImportJobStatus;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.exception.ImportJobAlreadyRunningException;
+import dri.commerce.user.domain.exception.ImportJobNotFoundException;
+import dri.commerce.user.domain.repository.UserImportRepository;
+import dri.commerce.user.domain.service.UserDomainService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Use case de importacao de usuarios em massa (CSV ou NDJSON).
+ *
+ * Pipeline:
+ * 1. Leitura em streaming, linha a linha
+ * 2. Validacao e hash bcrypt em paralelo, em um pool compartilhado por todas as importacoes
+ *    (user.import.parallelism threads), com janela limitada para nao carregar o arquivo inteiro em memoria
+ * 3. Resultados consumidos na ordem do arquivo e agrupados em lotes (user.import.batch-size)
+ * 4. Cada lote e gravado via COPY + merge com ON CONFLICT, avancando o checkpoint do job
+ *
+ * Reenviar o mesmo arquivo com o jobId retoma a importacao apos o ultimo lote gravado.
+ * Pela API a importacao roda em segundo plano (submit); o comando import-users usa execute.
+ */
+@ApplicationScoped
+public class ImportUsersUseCase {
+
+    private static final Logger LOG = Logger.getLogger(ImportUsersUseCase.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int PENDING_PER_THREAD = 4;
+
+    @Inject
+    UserImportRepository userImportRepository;
+
+    @Inject
+    UserDomainService userDomainService;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "user.import.batch-size", defaultValue = "1000")
+    int batchSize;
+
+    @ConfigProperty(name = "user.import.parallelism", defaultValue = "0")
+    int parallelism;
+
+    @ConfigProperty(name = "user.import.stale-after", defaultValue = "5m")
+    Duration staleAfter;
+
+    @Inject
+    ManagedExecutor managedExecutor;
+
+    private int threads;
+    private ManagedExecutor hashingExecutor;
+
+    @PostConstruct
+    void init() {
+        threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        hashingExecutor = ManagedExecutor.builder()
+                .maxAsync(threads)
+                .propagated(ThreadContext.NONE)
+                .cleared(ThreadContext.ALL_REMAINING)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    /**
+     * Linha rejeitada na validacao
+     *
+     * @param line Numero da linha no arquivo
+     * @param message Motivo da rejeicao
+     */
+    public record LineError(long line, String message) {}
+
+    /**
+     * Resultado da importacao
+     *
+     * @param job Estado final do job (contadores acumulados, inclusive de execucoes anteriores)
+     * @param errors Primeiras linhas rejeitadas nesta execucao
+     */
+    public record ImportReport(ImportJob job, List<LineError> errors) {}
+
+    /**
+     * Busca o estado de um job de importacao
+     *
+     * @throws ImportJobNotFoundException se o job nao existir
+     */
+    public ImportJob findJob(String jobId) {
+        return userImportRepository.findJob(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found with id: " + jobId));
+    }
+
+    /**
+     * Importa os usuarios do arquivo na thread atual
+     *
+     * @param input Conteudo do arquivo
+     * @param format Formato do arquivo
+     * @param source Descricao da origem (ex: nome do arquivo ou parceiro)
+     * @param resumeJobId Job a retomar, ou null para iniciar um novo
+     * @param progress Notificado apos cada lote gravado
+     * @return Relatorio da importacao
+     * @throws ImportJobAlreadyRunningException se o job a retomar estiver em execucao
+     */
+    public ImportReport execute(Reader input, ImportFormat format, String source, String resumeJobId,
+                                Consumer<ImportJob> progress) {
+        return run(start(source, resumeJobId), input, format, progress);
+    }
+
+    /**
+     * Cria (ou retoma) o job e importa o arquivo em segundo plano. O arquivo e removido ao final;
+     * o progresso e consultado por findJob.
+     *
+     * @param file Arquivo temporario com o conteudo enviado
+     * @return Job no estado inicial (RUNNING, ou COMPLETED se ja concluido)
+     * @throws ImportJobAlreadyRunningException se o job a retomar estiver em execucao
+     */
+    public ImportJob submit(Path file, ImportFormat format, String source, String resumeJobId) {
+        ImportJob job;
+        try {
+            job = start(source, resumeJobId);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+
+        if (job.status() == ImportJobStatus.COMPLETED) {
+            deleteQuietly(file);
+            return job;
+        }
+
+        managedExecutor.runAsync(() -> {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                ImportReport report = run(job, reader, format, progress -> { });
+                report.errors().forEach(error ->
+                        LOG.warnf("Import %s: line %d rejected: %s", job.id(), error.line(), error.message()));
+            } catch (IOException | RuntimeException e) {
+                LOG.errorf(e, "Import %s failed, resume by sending the same file with jobId", job.id());
+            } finally {
+                deleteQuietly(file);
+            }
+        });
+        return job;
+    }
+
+    private ImportJob start(String source, String resumeJobId) {
+        if (resumeJobId == null) {
+            return userImportRepository.createJob(source);
+        }
+        return userImportRepository.claimJob(resumeJobId, LocalDateTime.now().minus(staleAfter))
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found with id: " + resumeJobId));
+    }
+
+    private ImportReport run(ImportJob job, Reader input, ImportFormat format, Consumer<ImportJob> progress) {
+        if (job.status() == ImportJobStatus.COMPLETED) {
+            return new ImportReport(job, List.of());
+        }
+
+        ImportRun run = new ImportRun(job, progress);
+        Deque<PendingLine> pending = new ArrayDeque<>();
+
+        try (BufferedReader reader = new BufferedReader(input)) {
+            ImportRecordParser parser = new ImportRecordParser(format, objectMapper);
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (lineNumber == 1 && parser.hasHeader()) {
+                    parser.readHeader(line);
+                    continue;
+                }
+                if (lineNumber <= job.lastLine() || line.isBlank()) {
+                    continue;
+                }
+
+                String current = line;
+                pending.add(new PendingLine(lineNumber,
+                        CompletableFuture.supplyAsync(() -> prepare(parser, current), hashingExecutor)));
+
+                if (pending.size() >= threads * PENDING_PER_THREAD) {
+                    run.accept(pending.poll());
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                run.accept(pending.poll());
+            }
+            run.flush();
+
+            ImportJob finished = userImportRepository.updateStatus(job.id(), ImportJobStatus.COMPLETED);
+            LOG.infof("Import %s completed: %d imported, %d duplicates, %d failed",
+                    finished.id(), finished.imported(), finished.duplicates(), finished.failed());
+
+            return new ImportReport(finished, run.errors);
+        } catch (IOException e) {
+            fail(job, pending);
+            throw new UncheckedIOException("Failed to read import input", e);
+        } catch (RuntimeException e) {
+            fail(job, pending);
+            throw e;
+        }
+    }
+
+    /**
+     * Descarta as linhas ainda na fila do pool compartilhado (cancelar antes de iniciar evita o hash)
+     */
+    private void fail(ImportJob job, Deque<PendingLine> pending) {
+        pending.forEach(line -> line.user().cancel(false));
+        userImportRepository.updateStatus(job.id(), ImportJobStatus.FAILED);
+    }
+
+    /**
+     * Estagio paralelo: parse, validacao de negocio e hash da senha
+     */
+    private UserDomain prepare(ImportRecordParser parser, String line) {
+        ImportRecord record = parser.parse(line);
+
+        if (isBlank(record.name()) || isBlank(record.email()) || isBlank(record.password())) {
+            throw new IllegalArgumentException("name, email and password are required");
+        }
+
+        String email = record.email().trim();
+        int at = email.indexOf('@');
+        if (at <= 0 || at != email.lastIndexOf('@') || at == email.length() - 1) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+
+        return userDomainService.createUser(record.name(), email, record.password(), parseRole(record.role()));
+    }
+
+    private static Role parseRole(String role) {
+        if (isBlank(role)) {
+            return Role.CUSTOMER;
+        }
+
+        Role parsed = Role.valueOf(role.trim().toUpperCase());
+        if (parsed == Role.ADMIN) {
+            throw new IllegalArgumentException("ADMIN users cannot be imported");
+        }
+        return parsed;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warnf("Failed to delete import file %s: %s", file, e.getMessage());
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record PendingLine(long line, CompletableFuture<UserDomain> user) {}
+
+    /**
+     * Estado de uma execucao: lote corrente, erros e job atualizado
+     */
+    private final class ImportRun {
+
+        private final Consumer<ImportJob> progress;
+        private final List<UserDomain> batch = new ArrayList<>(batchSize);
+        private final List<LineError> errors = new ArrayList<>();
+        private ImportJob job;
+        private long failedInBatch;
+        private long lastLine;
+
+        private ImportRun(ImportJob job, Consumer<ImportJob> progress) {
+            this.job = job;
+            this.progress = progress;
+            this.lastLine = job.lastLine();
+        }
+
+        private void accept(PendingLine pending) {
+            try {
+                batch.add(pending.user().join());
+            } catch (CompletionException e) {
+                failedInBatch++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    errors.add(new LineError(pending.line(), cause.getMessage()));
+                }
+            }
+
+            lastLine = pending.line();
+
+            if (batch.size() + failedInBatch >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty() && failedInBatch == 0) {
+                return;
+            }
+
+            job = userImportRepository.loadBatch(job.id(), List.copyOf(batch), lastLine, failedInBatch);
+            batch.clear();
+            failedInBatch = 0;
+
+            LOG.infof("Import %s: line %d, %d imported, %d duplicates, %d failed",
+                    job.id(), job.lastLine(), job.imported(), job.duplicates(), job.failed());
+            progress.accept(job);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package dri.commerce.user.application.usecase;
 
+import java.util.Set;
+
+import dri.commerce.user.application.annotation.ReadOnly;
 import dri.commerce.user.domain.entity.Page;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.UserAttribute;
 import dri.commerce.user.domain.repository.UserRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+@ReadOnly
 @ApplicationScoped
 public class ListAllUsersUseCase {
 
@@ -15,4 +21,11 @@ public class ListAllUsersUseCase {
     public Page<UserDomain> execute(int page, int pageSize) {
         return userRepository.findAll(page, pageSize);
     }
+
+    /**
+     * Pagina com apenas os atributos pedidos (as demais colunas nem sao lidas)
+     */
+    public Page<UserView> execute(int page, int pageSize, Set<UserAttribute> attributes) {
+        return userRepository.findAll(page, pageSize, attributes);
+    }
 }
\ No newline at end of file
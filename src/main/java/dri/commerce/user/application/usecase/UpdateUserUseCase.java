@@ -1,6 +1,8 @@
 package dri.commerce.user.application.usecase;
 
+import dri.commerce.user.application.cache.UserCacheInvalidator;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
 import dri.commerce.user.domain.exception.UserNotFoundException;
 import dri.commerce.user.domain.repository.UserRepository;
 import dri.commerce.user.domain.service.UserDomainService;
@@ -14,6 +16,9 @@ public class UpdateUserUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
     @Inject
     UserDomainService userDomainService;
 
@@ -23,8 +28,13 @@ public class UpdateUserUseCase {
         UserDomain currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
-        UserDomain updatedUser = userDomainService.updateUser(currentUser, name, email, password);
+        UserUpdate update = userDomainService.updateUser(currentUser, name, email, password);
+
+        UserDomain savedUser = userRepository.update(update);
+        if (update.hasChanges()) {
+            userCacheInvalidator.invalidate(userId);
+        }
 
-        return userRepository.update(updatedUser);
+        return savedUser;
     }
 }
@@ -0,0 +1,27 @@
+package dri.commerce.user.domain.entity;
+
+import java.time.LocalDateTime;
+
+import dri.commerce.user.domain.enums.ImportJobStatus;
+
+/**
+ * Importacao de usuarios em lote, com checkpoint para retomada.
+ * lastLine e a ultima linha do arquivo cujo lote ja foi gravado; ao retomar,
+ * linhas ate ela sao ignoradas.
+ */
+public record ImportJob(
+        String id,
+        String source,
+        ImportJobStatus status,
+        long lastLine,
+        long imported,
+        long duplicates,
+        long failed,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public long processed() {
+        return imported + duplicates + failed;
+    }
+}
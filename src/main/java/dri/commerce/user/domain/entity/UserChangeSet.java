@@ -0,0 +1,70 @@
+package dri.commerce.user.domain.entity;
+
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserPassword;
+
+/**
+ * Alteracoes pendentes de um usuario, aplicadas de uma vez com UserDomain.apply.
+ * Valores null significam "manter o atual".
+ */
+public final class UserChangeSet {
+
+    private String name;
+    private UserEmail email;
+    private UserPassword password;
+    private Role role;
+    private Boolean active;
+
+    private UserChangeSet() {
+    }
+
+    public static UserChangeSet of() {
+        return new UserChangeSet();
+    }
+
+    public UserChangeSet name(String newName) {
+        this.name = newName != null ? newName.trim() : null;
+        return this;
+    }
+
+    public UserChangeSet email(UserEmail newEmail) {
+        this.email = newEmail;
+        return this;
+    }
+
+    public UserChangeSet password(UserPassword newPassword) {
+        this.password = newPassword;
+        return this;
+    }
+
+    public UserChangeSet role(Role newRole) {
+        this.role = newRole;
+        return this;
+    }
+
+    public UserChangeSet active(Boolean newActive) {
+        this.active = newActive;
+        return this;
+    }
+
+    String name() {
+        return name;
+    }
+
+    UserEmail email() {
+        return email;
+    }
+
+    UserPassword password() {
+        return password;
+    }
+
+    Role role() {
+        return role;
+    }
+
+    Boolean active() {
+        return active;
+    }
+}
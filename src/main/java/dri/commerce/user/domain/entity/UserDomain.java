@@ -1,8 +1,11 @@
 package dri.commerce.user.domain.entity;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserField;
 import dri.commerce.user.domain.valueobject.UserEmail;
 import dri.commerce.user.domain.valueobject.UserId;
 import dri.commerce.user.domain.valueobject.UserPassword;
@@ -62,6 +65,64 @@ public record UserDomain(
         return this.email.getDomain();
     }
 
+    /**
+     * Aplica todas as alteracoes em uma unica copia (um unico updatedAt).
+     * Valores iguais aos atuais nao contam como alteracao; sem alteracoes
+     * devolve o proprio usuario.
+     *
+     * @param changes Alteracoes pendentes
+     * @return Usuario resultante e campos alterados
+     */
+    public UserUpdate apply(UserChangeSet changes) {
+        Set<UserField> changed = EnumSet.noneOf(UserField.class);
+
+        String newName = this.name;
+        if (changes.name() != null && !changes.name().equals(this.name)) {
+            newName = changes.name();
+            changed.add(UserField.NAME);
+        }
+
+        UserEmail newEmail = this.email;
+        if (changes.email() != null && !changes.email().equals(this.email)) {
+            newEmail = changes.email();
+            changed.add(UserField.EMAIL);
+        }
+
+        UserPassword newPassword = this.password;
+        if (changes.password() != null && !changes.password().equals(this.password)) {
+            newPassword = changes.password();
+            changed.add(UserField.PASSWORD);
+        }
+
+        Role newRole = this.role;
+        if (changes.role() != null && changes.role() != this.role) {
+            newRole = changes.role();
+            changed.add(UserField.ROLE);
+        }
+
+        Boolean newActive = this.active;
+        if (changes.active() != null && !changes.active().equals(this.active)) {
+            newActive = changes.active();
+            changed.add(UserField.ACTIVE);
+        }
+
+        if (changed.isEmpty()) {
+            return new UserUpdate(this, Set.of());
+        }
+
+        UserDomain updated = new UserDomain(
+                this.id,
+                newName,
+                newEmail,
+                newPassword,
+                this.createdAt,
+                LocalDateTime.now(),
+                newActive,
+                newRole
+        );
+        return new UserUpdate(updated, changed);
+    }
+
     public UserDomain updateInfo(String newName, UserEmail newEmail) {
         return new UserDomain(
                 this.id,
@@ -0,0 +1,24 @@
+package dri.commerce.user.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+
+import dri.commerce.user.domain.enums.Role;
+
+/**
+ * Totais de usuarios para dashboards administrativos
+ *
+ * @param signupsByDay Cadastros por dia (ativos e inativos), dos ultimos user.stats.signup-days dias
+ * @param refreshedAt Momento da leitura dos contadores
+ */
+public record UserStats(
+        long total,
+        long active,
+        long inactive,
+        Map<Role, Long> byRole,
+        SortedMap<LocalDate, Long> signupsByDay,
+        LocalDateTime refreshedAt
+) {
+}
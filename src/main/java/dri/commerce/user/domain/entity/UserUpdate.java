@@ -0,0 +1,20 @@
+package dri.commerce.user.domain.entity;
+
+import java.util.Set;
+
+import dri.commerce.user.domain.enums.UserField;
+
+/**
+ * Resultado de UserDomain.apply: o usuario atualizado e os campos que de fato mudaram
+ * (a persistencia grava apenas esses campos)
+ */
+public record UserUpdate(UserDomain user, Set<UserField> changedFields) {
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty();
+    }
+
+    public boolean changed(UserField field) {
+        return changedFields.contains(field);
+    }
+}
@@ -0,0 +1,32 @@
+package dri.commerce.user.domain.entity;
+
+import java.time.LocalDateTime;
+
+import dri.commerce.user.domain.enums.Role;
+
+/**
+ * Modelo de leitura de um usuario (listagem com fields=). Diferente de UserDomain, nao
+ * carrega senha nem invariantes: atributos nao pedidos ficam null.
+ */
+public record UserView(
+        String id,
+        String name,
+        String email,
+        Role role,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Boolean active
+) {
+
+    public static UserView of(UserDomain user) {
+        return new UserView(
+                user.id() != null ? user.id().value() : null,
+                user.name(),
+                user.email().value(),
+                user.role(),
+                user.createdAt(),
+                user.updatedAt(),
+                user.active()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package dri.commerce.user.domain.enums;
+
+/**
+ * Operacoes administrativas aplicadas em lote sobre usuarios
+ */
+public enum BulkUserOperation {
+    ACTIVATE,
+    DEACTIVATE,
+    CHANGE_ROLE
+}
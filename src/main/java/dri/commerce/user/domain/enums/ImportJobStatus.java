@@ -0,0 +1,7 @@
+package dri.commerce.user.domain.enums;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,15 @@
+package dri.commerce.user.domain.enums;
+
+/**
+ * Atributos de leitura de um usuario, usados para carregar apenas parte das colunas
+ * (a senha nunca e exposta, entao nao faz parte da lista)
+ */
+public enum UserAttribute {
+    ID,
+    NAME,
+    EMAIL,
+    ROLE,
+    CREATED_AT,
+    UPDATED_AT,
+    ACTIVE
+}
@@ -0,0 +1,13 @@
+package dri.commerce.user.domain.enums;
+
+/**
+ * Eventos do ciclo de vida do usuario publicados para outros servicos (via outbox)
+ */
+public enum UserEventType {
+    CREATED,
+    UPDATED,
+    ACTIVATED,
+    DEACTIVATED,
+    ROLE_CHANGED,
+    DELETED
+}
@@ -0,0 +1,12 @@
+package dri.commerce.user.domain.enums;
+
+/**
+ * Campos alteraveis de um usuario, usados para rastrear o que mudou em uma atualizacao
+ */
+public enum UserField {
+    NAME,
+    EMAIL,
+    PASSWORD,
+    ROLE,
+    ACTIVE
+}
@@ -0,0 +1,8 @@
+package dri.commerce.user.domain.exception;
+
+public class ImportJobAlreadyRunningException extends RuntimeException {
+
+    public ImportJobAlreadyRunningException(String message) {
+        super(message);
+    }
+}
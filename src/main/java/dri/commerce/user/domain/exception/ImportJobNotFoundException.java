@@ -0,0 +1,8 @@
+package dri.commerce.user.domain.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,11 @@
 package dri.commerce.user.domain.exception;
 
+/**
+ * Usuario inexistente (vira 404): fluxo normal da API, sem stack trace
+ */
 public class UserNotFoundException extends RuntimeException {
     
     public UserNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
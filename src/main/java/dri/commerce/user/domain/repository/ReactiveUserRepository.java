@@ -0,0 +1,27 @@
+package dri.commerce.user.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Buscas de usuario sem bloqueio de thread, para os caminhos de leitura mais acessados.
+ * Escritas continuam no UserRepository (bloqueante, transacional).
+ */
+public interface ReactiveUserRepository {
+
+    Uni<Optional<UserDomain>> findById(UserId id);
+
+    Uni<Optional<UserDomain>> findByEmail(UserEmail email);
+
+    Uni<Boolean> existsByEmail(UserEmail email);
+
+    /**
+     * Versao do usuario (updated_at, ou created_at se nunca alterado) sem carregar a linha
+     */
+    Uni<Optional<LocalDateTime>> findVersion(UserId id);
+}
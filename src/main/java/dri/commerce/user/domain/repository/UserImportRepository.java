@@ -0,0 +1,42 @@
+package dri.commerce.user.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import dri.commerce.user.domain.entity.ImportJob;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.enums.ImportJobStatus;
+
+public interface UserImportRepository {
+
+    ImportJob createJob(String source);
+
+    Optional<ImportJob> findJob(String jobId);
+
+    /**
+     * Marca o job como RUNNING para retomada, com a linha do job travada (SELECT ... FOR UPDATE):
+     * duas retomadas simultaneas do mesmo job nao passam juntas. Jobs concluidos sao devolvidos
+     * sem alteracao.
+     *
+     * @param runningSince Jobs RUNNING atualizados depois deste instante sao considerados em execucao
+     *                     (um no que caiu no meio da importacao deixa de atualizar updated_at)
+     * @return Job a retomar, ou vazio se nao existir
+     * @throws dri.commerce.user.domain.exception.ImportJobAlreadyRunningException se o job estiver em execucao
+     */
+    Optional<ImportJob> claimJob(String jobId, LocalDateTime runningSince);
+
+    /**
+     * Grava um lote de usuarios e avanca o checkpoint do job na mesma transacao.
+     * Emails ja cadastrados (ou repetidos no lote) sao ignorados.
+     *
+     * @param jobId Job de importacao
+     * @param users Usuarios validados, com senha ja em hash
+     * @param lastLine Ultima linha do arquivo coberta pelo lote
+     * @param failed Linhas do lote rejeitadas na validacao
+     * @return Job atualizado
+     */
+    ImportJob loadBatch(String jobId, List<UserDomain> users, long lastLine, long failed);
+
+    ImportJob updateStatus(String jobId, ImportJobStatus status);
+}
@@ -1,10 +1,18 @@
 package dri.commerce.user.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import dri.commerce.user.domain.entity.Page;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserAttribute;
 import dri.commerce.user.domain.valueobject.UserEmail;
 import dri.commerce.user.domain.valueobject.UserId;
 
@@ -12,18 +20,38 @@ public interface UserRepository {
 
     UserDomain save(UserDomain user);
 
-    UserDomain update(UserDomain user);
+    /**
+     * Grava apenas os campos alterados (e updated_at); sem alteracoes nao acessa o banco
+     *
+     * @return Usuario atualizado
+     * @throws dri.commerce.user.domain.exception.UserNotFoundException se o usuario nao existir
+     */
+    UserDomain update(UserUpdate update);
 
     Optional<UserDomain> findById(UserId id);
 
     Optional<UserDomain> findByEmail(UserEmail email);
 
+    /**
+     * Busca varios usuarios em uma unica consulta
+     *
+     * @return Usuarios encontrados, sem ordem definida (IDs inexistentes sao omitidos)
+     */
+    List<UserDomain> findAllByIds(Collection<UserId> ids);
+
     List<UserDomain> findAllActive();
 
     List<UserDomain> getAllUsers();
 
     Page<UserDomain> findAll(int page, int pageSize);
 
+    /**
+     * Mesma pagina de findAll lendo apenas as colunas dos atributos pedidos
+     *
+     * @return Modelos de leitura: atributos nao pedidos ficam null
+     */
+    Page<UserView> findAll(int page, int pageSize, Set<UserAttribute> attributes);
+
     boolean existsByEmail(UserEmail email);
 
     boolean deleteById(UserId id);
@@ -33,4 +61,33 @@ public interface UserRepository {
     long count();
 
     List<UserDomain> findByNameContaining(String name);
+
+    /**
+     * Altera o status ativo de varios usuarios em uma unica instrucao (e transacao)
+     *
+     * @return IDs existentes no lote, com true se a linha foi alterada
+     */
+    Map<UserId, Boolean> updateActiveStatus(Collection<UserId> ids, boolean active);
+
+    /**
+     * Altera o role de varios usuarios em uma unica instrucao (e transacao)
+     *
+     * @return IDs existentes no lote, com true se a linha foi alterada
+     */
+    Map<UserId, Boolean> updateRole(Collection<UserId> ids, Role role);
+
+    /**
+     * Move para o arquivo um lote de usuarios inativos desde antes do corte
+     *
+     * @return IDs arquivados (vazio quando nao ha mais candidatos)
+     */
+    List<UserId> archiveInactive(LocalDateTime inactiveSince, int limit);
+
+    /**
+     * Devolve um usuario arquivado para a tabela principal (ainda inativo)
+     *
+     * @return false se o usuario nao estiver arquivado
+     * @throws dri.commerce.user.domain.exception.EmailAlreadyExistsException se o email foi reutilizado
+     */
+    boolean restoreArchived(UserId id);
 }
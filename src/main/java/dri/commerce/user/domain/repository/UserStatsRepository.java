@@ -0,0 +1,18 @@
+package dri.commerce.user.domain.repository;
+
+import dri.commerce.user.domain.entity.UserStats;
+
+public interface UserStatsRepository {
+
+    /**
+     * @return Ultimo retrato dos contadores, mantido em memoria (custo O(1))
+     */
+    UserStats current();
+
+    /**
+     * @return Usuarios da tabela principal (sem os arquivados), o total da listagem paginada
+     */
+    long countAll();
+
+    long countActive();
+}
@@ -0,0 +1,13 @@
+package dri.commerce.user.domain.service;
+
+/**
+ * Consulta a senhas conhecidas de vazamentos de dados, sem dependencia de rede
+ */
+public interface BreachedPasswordChecker {
+
+    /**
+     * @param plainPassword Senha em texto plano
+     * @return true se a senha aparece no conjunto de senhas vazadas
+     */
+    boolean isBreached(String plainPassword);
+}
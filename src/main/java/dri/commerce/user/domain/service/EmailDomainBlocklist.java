@@ -0,0 +1,13 @@
+package dri.commerce.user.domain.service;
+
+/**
+ * Lista de dominios de email descartaveis (temporarios) que nao podem ser usados no cadastro
+ */
+public interface EmailDomainBlocklist {
+
+    /**
+     * @param domain Dominio do email (ex: "mail.exemplo.com")
+     * @return true se o dominio, ou um dominio pai dele, estiver bloqueado
+     */
+    boolean isBlocked(String domain);
+}
@@ -1,7 +1,10 @@
 package dri.commerce.user.domain.service;
 
+import dri.commerce.user.domain.entity.UserChangeSet;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
 import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.exception.WeakPasswordException;
 import dri.commerce.user.domain.valueobject.UserEmail;
 import dri.commerce.user.domain.valueobject.UserPassword;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -16,33 +19,36 @@ public class UserDomainService {
     @Inject
     UserValidationService userValidationService;
 
+    @Inject
+    BreachedPasswordChecker breachedPasswordChecker;
+
     public UserDomain createUser(String name, String email, String plainPassword, Role role) {
         UserEmail userEmail = new UserEmail(email);
         userValidationService.validateUserCreation(name, userEmail);
 
-        UserPassword.validateStrength(plainPassword);
+        validateNewPassword(plainPassword);
 
         String hashedPassword = passwordHashingService.hash(plainPassword);
-        UserPassword userPassword = new UserPassword(hashedPassword);
+        UserPassword userPassword = UserPassword.fromHash(hashedPassword);
 
         return UserDomain.create(name, userEmail, userPassword, role);
     }
 
-    public UserDomain updateUser(UserDomain currentUser, String newName, String newEmail, String newPlainPassword) {
-        String finalName = newName != null ? newName : currentUser.name();
+    public UserUpdate updateUser(UserDomain currentUser, String newName, String newEmail, String newPlainPassword) {
         UserEmail finalEmail = newEmail != null ? new UserEmail(newEmail) : currentUser.email();
 
         userValidationService.validateUserUpdate(currentUser, newName, finalEmail);
 
-        UserDomain updatedUser = currentUser.updateInfo(finalName, finalEmail);
+        UserChangeSet changes = UserChangeSet.of()
+                .name(newName)
+                .email(finalEmail);
 
         if (newPlainPassword != null && !newPlainPassword.isBlank()) {
-            UserPassword.validateStrength(newPlainPassword);
-            String hashedPassword = passwordHashingService.hash(newPlainPassword);
-            updatedUser = updatedUser.updatePassword(new UserPassword(hashedPassword));
+            validateNewPassword(newPlainPassword);
+            changes.password(UserPassword.fromHash(passwordHashingService.hash(newPlainPassword)));
         }
 
-        return updatedUser;
+        return currentUser.apply(changes);
     }
 
     /**
@@ -73,10 +79,10 @@ public class UserDomainService {
             throw new IllegalArgumentException("New password must be different from the old password");
         }
 
-        UserPassword.validateStrength(newPassword);
+        validateNewPassword(newPassword);
 
         String hashedPassword = passwordHashingService.hash(newPassword);
-        UserPassword userPassword = new UserPassword(hashedPassword);
+        UserPassword userPassword = UserPassword.fromHash(hashedPassword);
 
         return user.updatePassword(userPassword);
     }
@@ -118,25 +124,18 @@ public class UserDomainService {
      * @param newEmail Novo email (opcional, mantém o atual se null)
      * @param newRole Novo papel/role (opcional, mantém o atual se null)
      * @param active Novo status ativo/inativo (opcional, mantém o atual se null)
-     * @return UserDomain atualizado
+     * @return Usuário atualizado e campos alterados
      */
-    public UserDomain adminUpdateUser(UserDomain currentUser, String newName, String newEmail, Role newRole, Boolean active) {
-        String finalName = newName != null ? newName : currentUser.name();
+    public UserUpdate adminUpdateUser(UserDomain currentUser, String newName, String newEmail, Role newRole, Boolean active) {
         UserEmail finalEmail = newEmail != null ? new UserEmail(newEmail) : currentUser.email();
 
         userValidationService.validateUserUpdate(currentUser, newName, finalEmail);
 
-        UserDomain updatedUser = currentUser.updateInfo(finalName, finalEmail);
-
-        if (newRole != null && newRole != currentUser.role()) {
-            updatedUser = updatedUser.updateRole(newRole);
-        }
-
-        if (active != null && active != currentUser.isActive()) {
-            updatedUser = active ? updatedUser.activate() : updatedUser.deactivate();
-        }
-
-        return updatedUser;
+        return currentUser.apply(UserChangeSet.of()
+                .name(newName)
+                .email(finalEmail)
+                .role(newRole)
+                .active(active));
     }
 
     /**
@@ -161,4 +160,17 @@ public class UserDomainService {
     public boolean haveSameEmailDomain(UserDomain user1, UserDomain user2) {
         return user1.getEmailDomain().equalsIgnoreCase(user2.getEmailDomain());
     }
-}
\ No newline at end of file
+
+    /**
+     * Valida a força da senha e rejeita senhas conhecidas de vazamentos
+     *
+     * @param plainPassword Senha em texto plano
+     */
+    private void validateNewPassword(String plainPassword) {
+        UserPassword.validateStrength(plainPassword);
+
+        if (breachedPasswordChecker.isBreached(plainPassword)) {
+            throw new WeakPasswordException("Password has appeared in a data breach, please choose a different one");
+        }
+    }
+}
@@ -17,20 +17,12 @@ public class UserValidationService {
     @Inject
     UserRepository userRepository;
 
-    /**
-     * Valida se o email já está em uso por outro usuário
-     * 
-     * @param email Email a ser validado
-     * @throws EmailAlreadyExistsException se o email já existir
-     */
-    public void validateEmailUniqueness(UserEmail email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new EmailAlreadyExistsException("Email already exists: " + email.value());
-        }
-    }
+    @Inject
+    EmailDomainBlocklist emailDomainBlocklist;
 
     /**
-     * Valida se o email pode ser alterado (não está em uso por outro usuário)
+     * Valida se o email pode ser alterado (não está em uso por outro usuário).
+     * Emails de usuários arquivados são recusados pelo próprio update do repositório
      * 
      * @param newEmail Novo email desejado
      * @param currentUser Usuário atual que deseja alterar o email
@@ -53,13 +45,14 @@ public class UserValidationService {
 
     /**
      * Valida regras de negócio para criação de usuário
+     * A unicidade do email não é verificada aqui: o insert do repositório
+     * usa ON CONFLICT e lança EmailAlreadyExistsException
      * 
      * @param name Nome do usuário
      * @param email Email do usuário
      */
     public void validateUserCreation(String name, UserEmail email) {
         validateNameRequirements(name);
-        validateEmailUniqueness(email);
         validateEmailDomainAllowed(email);
     }
 
@@ -98,11 +91,26 @@ public class UserValidationService {
         }
 
         // Valida que o nome contém apenas letras e espaços
-        if (!name.matches("^[a-zA-ZÀ-ÿ\\s]+$")) {
+        if (!containsOnlyLettersAndSpaces(name)) {
             throw new IllegalArgumentException("Name can only contain letters and spaces");
         }
     }
 
+    /**
+     * Equivalente a ^[a-zA-ZÀ-ÿ\s]+$, em uma passada e sem regex
+     */
+    private static boolean containsOnlyLettersAndSpaces(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= 'À' && c <= 'ÿ');
+            boolean space = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+            if (!letter && !space) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Valida se o domínio do email é permitido
      * Exemplo de regra de negócio: bloquear emails temporários
@@ -117,11 +125,10 @@ public class UserValidationService {
     }
 
     /**
-     * Verifica se é um domínio de email temporário
+     * Verifica se é um domínio de email temporário (ou subdomínio de um)
      */
     private boolean isTemporaryEmailDomain(String domain) {
-        // Adicione aqui domínios de emails temporários que deseja bloquear
-        return domain.matches(".*(tempmail|guerrillamail|10minutemail|throwaway).*");
+        return emailDomainBlocklist.isBlocked(domain);
     }
 
     /**
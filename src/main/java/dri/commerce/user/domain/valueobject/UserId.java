@@ -9,12 +9,37 @@ public record UserId(@NotBlank String value) {
             throw new IllegalArgumentException("User ID cannot be blank");
         }
 
-        if (!value.matches("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$")) {
+        if (!isUuid(value)) {
             throw new IllegalArgumentException("Invalid User ID format: " + value);
         }
 
         return new UserId(value);
     }
 
+    /**
+     * Formato 8-4-4-4-12 em hexadecimal, verificado em uma passada (sem regex)
+     */
+    private static boolean isUuid(String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
 }
 
@@ -8,12 +8,29 @@ public record UserPassword(
         String value
 ) {
 
-    public UserPassword {
+    private static final String SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+
+    /**
+     * Cria a senha validando o valor: aceita um hash bcrypt ou uma senha forte.
+     * O construtor canonico nao valida; use esta fabrica para valores nao confiaveis.
+     *
+     * @throws WeakPasswordException se o valor nao for hash nem senha forte
+     */
+    public static UserPassword of(String value) {
         if (value != null && !isHash(value) && !isStrongPassword(value)) {
             throw new WeakPasswordException(
                     "Password must be at least 12 characters with uppercase, lowercase, number and special character"
             );
         }
+        return new UserPassword(value);
+    }
+
+    /**
+     * Caminho confiavel para hashes gerados pelo PasswordHashingService ou ja gravados
+     * no banco: apenas encapsula o valor, sem verificacao de forma ou de forca
+     */
+    public static UserPassword fromHash(String hash) {
+        return new UserPassword(hash);
     }
 
     public static void validateStrength(String password) {
@@ -37,9 +54,32 @@ public record UserPassword(
             return false;
         }
 
-        return password.matches(".*[A-Z].*") &&
-                password.matches(".*[a-z].*") &&
-                password.matches(".*[0-9].*") &&
-                password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*");
+        boolean upper = false;
+        boolean lower = false;
+        boolean digit = false;
+        boolean special = false;
+
+        // Uma passada classificando cada caractere (equivalente as quatro regex anteriores)
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                upper = true;
+            } else if (c >= 'a' && c <= 'z') {
+                lower = true;
+            } else if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                special = true;
+            } else if (isLineTerminator(c)) {
+                // As regex usavam '.', que nao aceita quebras de linha
+                return false;
+            }
+        }
+
+        return upper && lower && digit && special;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package dri.commerce.user.infrastructure.archive;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.application.usecase.ArchiveInactiveUsersUseCase;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class InactiveUserArchiveJob {
+
+    private static final Logger LOG = Logger.getLogger(InactiveUserArchiveJob.class);
+
+    @ConfigProperty(name = "user.archive.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    ArchiveInactiveUsersUseCase archiveInactiveUsersUseCase;
+
+    @Scheduled(every = "${user.archive.interval:1h}", delayed = "5m",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void archive() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            long archived = archiveInactiveUsersUseCase.execute();
+            if (archived > 0) {
+                LOG.infof("Archived %d inactive users in %dms", archived, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            LOG.errorf("Failed to archive inactive users: %s", e.getMessage());
+        }
+    }
+}
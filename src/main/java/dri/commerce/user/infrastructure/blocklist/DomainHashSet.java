@@ -0,0 +1,120 @@
+package dri.commerce.user.infrastructure.blocklist;
+
+import java.util.Collection;
+
+/**
+ * Conjunto imutavel de dominios guardado como hashes de 64 bits em enderecamento aberto
+ * (sondagem linear): 8 bytes por posicao e fator de carga de no maximo 0,5,
+ * sem guardar as Strings. A chance de colisao entre dois dominios e desprezivel (~n/2^64).
+ *
+ * A consulta por sufixo percorre o dominio uma vez, do fim para o inicio, testando
+ * cada dominio pai ("a.b.exemplo.com" -> "b.exemplo.com" -> "exemplo.com" -> "com")
+ * sem criar substrings.
+ */
+final class DomainHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private final long[] slots;
+    private final int mask;
+    private final int size;
+
+    private DomainHashSet(long[] slots, int size) {
+        this.slots = slots;
+        this.mask = slots.length - 1;
+        this.size = size;
+    }
+
+    static DomainHashSet of(Collection<String> domains) {
+        int capacity = Integer.highestOneBit(Math.max(2, domains.size()) * 2 - 1) << 1;
+        long[] slots = new long[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+
+        for (String domain : domains) {
+            long hash = hash(domain, 0, domain.length());
+            int index = (int) hash & mask;
+            while (slots[index] != EMPTY && slots[index] != hash) {
+                index = (index + 1) & mask;
+            }
+            if (slots[index] == EMPTY) {
+                slots[index] = hash;
+                size++;
+            }
+        }
+
+        return new DomainHashSet(slots, size);
+    }
+
+    /**
+     * @return true se o dominio ou algum dominio pai estiver no conjunto
+     */
+    boolean containsDomainOrParent(String domain) {
+        int end = domain.length();
+        if (end == 0) {
+            return false;
+        }
+
+        // O hash e calculado do fim para o inicio; a cada '.' o sufixo acumulado e um dominio pai
+        long hash = OFFSET_BASIS;
+        for (int i = end - 1; i >= 0; i--) {
+            char c = domain.charAt(i);
+            if (c == '.' && contains(finish(hash))) {
+                return true;
+            }
+            hash = step(hash, c);
+        }
+        return contains(finish(hash));
+    }
+
+    int size() {
+        return size;
+    }
+
+    long memoryBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    private boolean contains(long hash) {
+        int index = (int) hash & mask;
+        while (true) {
+            long slot = slots[index];
+            if (slot == hash) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Hash do trecho [start, end), percorrido do fim para o inicio (mesma ordem da consulta)
+     */
+    private static long hash(String domain, int start, int end) {
+        long hash = OFFSET_BASIS;
+        for (int i = end - 1; i >= start; i--) {
+            hash = step(hash, domain.charAt(i));
+        }
+        return finish(hash);
+    }
+
+    private static long step(long hash, char c) {
+        char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return (hash ^ lower) * PRIME;
+    }
+
+    /**
+     * Mistura final (SplitMix64) para espalhar os bits baixos usados como indice; 0 e reservado para vazio
+     */
+    private static long finish(long hash) {
+        long z = hash;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return z == EMPTY ? 1L : z;
+    }
+}
@@ -0,0 +1,122 @@
+package dri.commerce.user.infrastructure.blocklist;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.domain.service.EmailDomainBlocklist;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Blocklist de dominios descartaveis carregada de arquivo (um dominio por linha, '#' para comentarios).
+ * Cada dominio listado bloqueia tambem todos os seus subdominios.
+ *
+ * - Sem user.email-blocklist.path usa a lista embutida (blocklist/disposable-email-domains.txt)
+ * - O arquivo e verificado a cada user.email-blocklist.reload-interval; se mudou, o novo conjunto
+ *   e montado em paralelo e trocado atomicamente, sem bloquear cadastros em andamento
+ * - Se a recarga falhar, a lista anterior continua valendo
+ */
+@ApplicationScoped
+public class FileEmailDomainBlocklist implements EmailDomainBlocklist {
+
+    private static final Logger LOG = Logger.getLogger(FileEmailDomainBlocklist.class);
+    private static final String BUILT_IN_LIST = "blocklist/disposable-email-domains.txt";
+
+    @ConfigProperty(name = "user.email-blocklist.path")
+    Optional<Path> path;
+
+    private volatile DomainHashSet domains = DomainHashSet.of(List.of());
+    private volatile FileTime loadedVersion;
+
+    void onStart(@Observes StartupEvent event) {
+        reload();
+    }
+
+    @Override
+    public boolean isBlocked(String domain) {
+        return domains.containsDomainOrParent(domain);
+    }
+
+    @Scheduled(every = "${user.email-blocklist.reload-interval:1m}", delayed = "${user.email-blocklist.reload-interval:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reload() {
+        try {
+            if (path.isEmpty()) {
+                if (loadedVersion == null) {
+                    load(builtInList(), FileTime.fromMillis(0), BUILT_IN_LIST);
+                }
+                return;
+            }
+
+            FileTime version = Files.getLastModifiedTime(path.get());
+            if (version.equals(loadedVersion)) {
+                return;
+            }
+            try (InputStream input = Files.newInputStream(path.get())) {
+                load(input, version, path.get().toString());
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOG.errorf("Failed to load email domain blocklist, keeping previous one: %s", e.getMessage());
+        }
+    }
+
+    private void load(InputStream input, FileTime version, String source) throws IOException {
+        long start = System.nanoTime();
+        List<String> entries = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String entry = normalize(line);
+                if (!entry.isEmpty()) {
+                    entries.add(entry);
+                }
+            }
+        }
+
+        DomainHashSet loaded = DomainHashSet.of(entries);
+        domains = loaded;
+        loadedVersion = version;
+
+        LOG.infof("Email domain blocklist loaded from %s: %d domains, %d KB in %dms",
+                source, loaded.size(), loaded.memoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Remove comentarios, espacos e prefixos "*." / "." (o bloqueio ja inclui subdominios)
+     */
+    private static String normalize(String line) {
+        int comment = line.indexOf('#');
+        String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+
+        if (entry.startsWith("*.")) {
+            entry = entry.substring(2);
+        } else if (entry.startsWith(".")) {
+            entry = entry.substring(1);
+        }
+        return entry;
+    }
+
+    private static InputStream builtInList() {
+        InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(BUILT_IN_LIST);
+        if (input == null) {
+            throw new UncheckedIOException(new IOException("Built-in blocklist not found: " + BUILT_IN_LIST));
+        }
+        return input;
+    }
+}
@@ -0,0 +1,101 @@
+package dri.commerce.user.infrastructure.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter de Strings, seguro para insercoes e consultas concorrentes.
+ * Nunca retorna falso negativo; falsos positivos ocorrem na taxa configurada.
+ * A semente aleatoria impede que um atacante pre-calcule colisoes.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final long seed;
+
+    private BloomFilter(long bitSize, int hashFunctions, long seed) {
+        int words = (int) Math.max(1, (bitSize + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashFunctions = hashFunctions;
+        this.seed = seed;
+    }
+
+    /**
+     * Cria um filtro dimensionado para a quantidade esperada de elementos
+     *
+     * @param expectedInsertions Numero esperado de elementos
+     * @param falsePositiveRate Taxa de falso positivo desejada (0 < p < 1)
+     * @param seed Semente das funcoes de hash
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate, long seed) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        double ln2 = Math.log(2);
+        long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bitSize = Math.min(bitSize, (long) Integer.MAX_VALUE << 6);
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+
+        return new BloomFilter(bitSize, hashFunctions, seed);
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        long h1 = hash & 0xFFFFFFFFL;
+        long h2 = hash >>> 32;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = hash & 0xFFFFFFFFL;
+        long h2 = hash >>> 32;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * FNV-1a sobre os chars seguido do finalizador do SplitMix64
+     */
+    private long hash64(String value) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
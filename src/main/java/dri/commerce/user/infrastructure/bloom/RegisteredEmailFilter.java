@@ -0,0 +1,186 @@
+package dri.commerce.user.infrastructure.bloom;
+
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.infrastructure.invalidation.UserInvalidationBus;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Filtro de emails cadastrados usado para descartar, sem acesso ao banco,
+ * buscas por emails que certamente nao existem (ex: credential stuffing no login).
+ *
+ * - Construido no startup e reconstruido periodicamente (remove emails antigos
+ *   apos troca de email e reajusta o tamanho)
+ * - Atualizado na criacao de usuario e na troca de email, neste no e (via UserInvalidationBus) nos demais
+ * - Enquanto nao estiver pronto (ou se desabilitado) responde "talvez exista",
+ *   fazendo a busca cair no banco normalmente
+ */
+@ApplicationScoped
+public class RegisteredEmailFilter {
+
+    private static final Logger LOG = Logger.getLogger(RegisteredEmailFilter.class);
+    private static final int FETCH_SIZE = 5000;
+
+    @ConfigProperty(name = "user.email-filter.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.email-filter.expected-insertions", defaultValue = "1000000")
+    long expectedInsertions;
+
+    @ConfigProperty(name = "user.email-filter.false-positive-rate", defaultValue = "0.01")
+    double falsePositiveRate;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    UserInvalidationBus invalidationBus;
+
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Object lock = new Object();
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter building;
+
+    /**
+     * Emails registrados desde o inicio da ultima reconstrucao (guardado por lock).
+     * O insert que chamou add() pode ainda nao ter feito commit quando a proxima
+     * reconstrucao tira o snapshot; por isso esses emails sao copiados para o novo
+     * filtro antes da troca. Cresce apenas com os cadastros de um intervalo de reconstrucao.
+     */
+    private Set<String> recent = new HashSet<>();
+
+    void onStart(@Observes StartupEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Reconstroi o filtro a partir da tabela de usuarios e troca o filtro ativo atomicamente.
+     * Emails adicionados durante a reconstrucao sao gravados nos dois filtros, e os adicionados
+     * desde a reconstrucao anterior sao reaplicados ao novo filtro antes da troca.
+     */
+    @Scheduled(every = "${user.email-filter.rebuild-interval:1h}", delayed = "${user.email-filter.rebuild-interval:1h}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate, random.nextLong());
+        Set<String> carried;
+
+        synchronized (lock) {
+            carried = recent;
+            recent = new HashSet<>();
+            building = next;
+        }
+
+        try {
+            long count = loadRegisteredEmails(next);
+
+            synchronized (lock) {
+                carried.forEach(next::put);
+                active = next;
+                building = null;
+            }
+
+            if (count > expectedInsertions) {
+                LOG.warnf("Email filter holds %d emails, above the configured %d; false positive rate will exceed %.4f",
+                        count, expectedInsertions, falsePositiveRate);
+            }
+            LOG.infof("Email filter rebuilt: %d emails (+%d recent), %d bits, %d hashes in %dms",
+                    count, carried.size(), next.bitSize(), next.hashFunctions(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                recent.addAll(carried);
+                building = null;
+            }
+            LOG.errorf("Failed to rebuild email filter, keeping previous one: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Carrega no filtro os emails visiveis no snapshot atual da tabela de usuarios
+     *
+     * @return Quantidade de emails lidos
+     */
+    long loadRegisteredEmails(BloomFilter next) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            try (Stream<String> emails = entityManager
+                    .createQuery("SELECT u.email FROM UserEntity u", String.class)
+                    .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                    .setHint("org.hibernate.readOnly", true)
+                    .getResultStream()) {
+                long[] total = {0};
+                emails.forEach(email -> {
+                    next.put(email);
+                    total[0]++;
+                });
+                return total[0];
+            }
+        });
+    }
+
+    /**
+     * Registra um email cadastrado (criacao de usuario ou troca de email).
+     * Deve ser chamado antes do commit: o email fica em "recent" ate a proxima reconstrucao.
+     */
+    public void add(String email) {
+        addLocal(email);
+        invalidationBus.emailRegistered(email);
+    }
+
+    /**
+     * Registra um email cadastrado por outro no (sem repropagar)
+     */
+    public void addLocal(String email) {
+        synchronized (lock) {
+            recent.add(email);
+
+            BloomFilter next = building;
+            BloomFilter current = active;
+            if (next != null) {
+                next.put(email);
+            }
+            if (current != null) {
+                current.put(email);
+            }
+        }
+    }
+
+    /**
+     * @return false se o email certamente nao esta cadastrado; true se pode estar
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = active;
+        if (!enabled || current == null) {
+            return true;
+        }
+
+        if (current.mightContain(email)) {
+            return true;
+        }
+
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public long rejectedLookups() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,61 @@
+package dri.commerce.user.infrastructure.breach;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Formato binario do arquivo de senhas vazadas:
+ *
+ * <pre>
+ * magic "BPW1" (4 bytes) | total de hashes (long)
+ * fanout: 65536 ints - quantidade acumulada de hashes com os 16 primeiros bits <= i
+ * hashes: prefixos de 64 bits do SHA-1, ordenados (sem sinal) e sem repeticao
+ * </pre>
+ *
+ * Guardar 8 dos 20 bytes do SHA-1 reduz o arquivo a 40%; a chance de um falso positivo
+ * e da ordem de n/2^64 (desprezivel mesmo com bilhoes de hashes).
+ * O fanout restringe a busca binaria a ~n/65536 entradas.
+ */
+final class BreachedPasswordFile {
+
+    static final int MAGIC = 0x42505731;
+    static final int FANOUT_SIZE = 1 << 16;
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    static final long DATA_OFFSET = HEADER_BYTES + (long) FANOUT_SIZE * Integer.BYTES;
+
+    private BreachedPasswordFile() {
+    }
+
+    /**
+     * Prefixo de 64 bits do SHA-1 (UTF-8) da senha, como no dataset publico de senhas vazadas
+     */
+    static long prefixOf(String plainPassword) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(plainPassword.getBytes(StandardCharsets.UTF_8));
+            long prefix = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                prefix = (prefix << 8) | (digest[i] & 0xFF);
+            }
+            return prefix;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    /**
+     * Prefixo de 64 bits a partir dos 16 primeiros caracteres hexadecimais de um hash SHA-1
+     *
+     * @throws NumberFormatException se o trecho nao for hexadecimal
+     */
+    static long prefixOfHex(String sha1Hex) {
+        if (sha1Hex.length() < 16) {
+            throw new NumberFormatException("SHA-1 hash too short: " + sha1Hex);
+        }
+        return Long.parseUnsignedLong(sha1Hex, 0, 16, 16);
+    }
+
+    static int fanoutIndex(long prefix) {
+        return (int) (prefix >>> 48);
+    }
+}
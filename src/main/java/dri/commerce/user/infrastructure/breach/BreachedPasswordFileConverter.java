@@ -0,0 +1,182 @@
+package dri.commerce.user.infrastructure.breach;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Converte o dataset de senhas vazadas para o formato binario lido por MappedBreachedPasswordChecker.
+ * O arquivo e gerado em output + ".tmp" e so substitui o destino (rename atomico) quando completo:
+ * uma instancia com o arquivo antigo mapeado continua lendo o inode antigo, nunca um arquivo truncado.
+ */
+public final class BreachedPasswordFileConverter {
+
+    private BreachedPasswordFileConverter() {
+    }
+
+    /**
+     * Converte um arquivo no formato "SHA1HEX:contagem" ja ordenado por hash
+     * (versao "ordered by hash" do dataset). O arquivo e processado em streaming,
+     * entao o tamanho do dataset nao afeta o uso de memoria.
+     *
+     * @return Quantidade de hashes gravados
+     * @throws IllegalArgumentException se o arquivo nao estiver ordenado ou tiver linhas invalidas
+     */
+    public static long convertSortedHashes(Path input, Path output) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+             Writer writer = new Writer(output)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                long prefix;
+                try {
+                    prefix = BreachedPasswordFile.prefixOfHex(line.strip());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid hash at line " + lineNumber + ": " + line);
+                }
+
+                if (!writer.append(prefix)) {
+                    throw new IllegalArgumentException("Input is not ordered by hash at line " + lineNumber);
+                }
+            }
+            return writer.finish();
+        }
+    }
+
+    /**
+     * Converte uma lista de senhas em texto plano (uma por linha). Os hashes sao
+     * ordenados em memoria, entao e indicado apenas para listas menores.
+     *
+     * @return Quantidade de hashes gravados
+     */
+    public static long convertPlainPasswords(Path input, Path output) throws IOException {
+        long[] prefixes = new long[1 << 16];
+        int size = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (size == prefixes.length) {
+                    prefixes = Arrays.copyOf(prefixes, size * 2);
+                }
+                // Inverter o bit de sinal faz a ordenacao com sinal equivaler a ordenacao sem sinal
+                prefixes[size++] = BreachedPasswordFile.prefixOf(line) ^ Long.MIN_VALUE;
+            }
+        }
+
+        Arrays.sort(prefixes, 0, size);
+
+        try (Writer writer = new Writer(output)) {
+            for (int i = 0; i < size; i++) {
+                writer.append(prefixes[i] ^ Long.MIN_VALUE);
+            }
+            return writer.finish();
+        }
+    }
+
+    /**
+     * Grava os hashes a partir de DATA_OFFSET e, ao final, o cabecalho e o fanout.
+     * Sem finish() (falha no meio da conversao) o arquivo temporario e descartado.
+     */
+    private static final class Writer implements AutoCloseable {
+
+        private final Path output;
+        private final Path temporary;
+        private final FileChannel channel;
+        private final DataOutputStream data;
+        private final long[] fanout = new long[BreachedPasswordFile.FANOUT_SIZE];
+        private long count;
+        private long last;
+        private boolean finished;
+
+        Writer(Path output) throws IOException {
+            this.output = output;
+            this.temporary = output.resolveSibling(output.getFileName() + ".tmp");
+            channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(BreachedPasswordFile.DATA_OFFSET);
+            data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 20));
+        }
+
+        /**
+         * @return false se o hash for menor que o anterior (entrada fora de ordem)
+         */
+        boolean append(long prefix) throws IOException {
+            if (count > 0) {
+                int comparison = Long.compareUnsigned(prefix, last);
+                if (comparison < 0) {
+                    return false;
+                }
+                if (comparison == 0) {
+                    return true;
+                }
+            }
+
+            data.writeLong(prefix);
+            fanout[BreachedPasswordFile.fanoutIndex(prefix)]++;
+            last = prefix;
+            count++;
+            return true;
+        }
+
+        long finish() throws IOException {
+            data.flush();
+
+            if (count > 0xFFFF_FFFFL) {
+                throw new IllegalArgumentException("Too many hashes for the fanout table: " + count);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate((int) BreachedPasswordFile.DATA_OFFSET).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(BreachedPasswordFile.MAGIC);
+            header.putLong(count);
+            long cumulative = 0;
+            for (long bucket : fanout) {
+                cumulative += bucket;
+                header.putInt((int) cumulative);
+            }
+            header.flip();
+
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+            channel.force(true);
+            finished = true;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                data.close();
+            } finally {
+                channel.close();
+            }
+
+            if (finished) {
+                Files.move(temporary, output, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package dri.commerce.user.infrastructure.breach;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.domain.service.BreachedPasswordChecker;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Consulta ao arquivo de senhas vazadas (gerado pelo comando convert-breached-passwords)
+ * via memory-mapped I/O: o arquivo nao e carregado no heap, as paginas usadas ficam no
+ * page cache do sistema operacional. Cada consulta le o fanout e faz uma busca binaria
+ * em um intervalo pequeno (poucos acessos a memoria, microssegundos).
+ *
+ * Sem user.breached-passwords.path a verificacao fica desligada.
+ */
+@ApplicationScoped
+public class MappedBreachedPasswordChecker implements BreachedPasswordChecker {
+
+    private static final Logger LOG = Logger.getLogger(MappedBreachedPasswordChecker.class);
+
+    /** Cada mapeamento cobre ate 1 GB (multiplo de 8, para nenhum hash cruzar dois mapeamentos) */
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    @ConfigProperty(name = "user.breached-passwords.path")
+    Optional<Path> path;
+
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] chunks;
+    private long count;
+
+    void onStart(@Observes StartupEvent event) {
+        if (path.isEmpty()) {
+            LOG.info("Breached password check disabled (user.breached-passwords.path not set)");
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path.get(), StandardOpenOption.READ)) {
+            MappedByteBuffer mappedHeader = channel.map(FileChannel.MapMode.READ_ONLY, 0, BreachedPasswordFile.DATA_OFFSET);
+            mappedHeader.order(ByteOrder.BIG_ENDIAN);
+            if (mappedHeader.getInt(0) != BreachedPasswordFile.MAGIC) {
+                throw new IOException("Not a breached password file: " + path.get());
+            }
+
+            long total = mappedHeader.getLong(Integer.BYTES);
+            long dataBytes = total * Long.BYTES;
+            if (channel.size() < BreachedPasswordFile.DATA_OFFSET + dataBytes) {
+                throw new IOException("Truncated breached password file: " + path.get());
+            }
+
+            int chunkCount = (int) ((dataBytes + CHUNK_MASK) >>> CHUNK_SHIFT);
+            MappedByteBuffer[] mapped = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long offset = (long) i << CHUNK_SHIFT;
+                long size = Math.min(1L << CHUNK_SHIFT, dataBytes - offset);
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, BreachedPasswordFile.DATA_OFFSET + offset, size);
+                mapped[i].order(ByteOrder.BIG_ENDIAN);
+            }
+
+            header = mappedHeader;
+            chunks = mapped;
+            count = total;
+            LOG.infof("Breached password file mapped: %d hashes from %s", total, path.get());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map breached password file " + path.get(), e);
+        }
+    }
+
+    @Override
+    public boolean isBreached(String plainPassword) {
+        if (chunks == null || plainPassword == null) {
+            return false;
+        }
+
+        return contains(BreachedPasswordFile.prefixOf(plainPassword));
+    }
+
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Busca binaria restrita ao intervalo do fanout do prefixo
+     */
+    boolean contains(long prefix) {
+        int bucket = BreachedPasswordFile.fanoutIndex(prefix);
+
+        long low = bucket == 0 ? 0 : Integer.toUnsignedLong(header.getInt(fanoutOffset(bucket - 1)));
+        long high = Integer.toUnsignedLong(header.getInt(fanoutOffset(bucket))) - 1;
+
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int comparison = Long.compareUnsigned(hashAt(middle), prefix);
+            if (comparison == 0) {
+                return true;
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return false;
+    }
+
+    private long hashAt(long index) {
+        long offset = index * Long.BYTES;
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) (offset & CHUNK_MASK));
+    }
+
+    private static int fanoutOffset(int bucket) {
+        return BreachedPasswordFile.HEADER_BYTES + bucket * Integer.BYTES;
+    }
+}
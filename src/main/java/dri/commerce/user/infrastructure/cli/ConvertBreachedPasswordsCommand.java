@@ -0,0 +1,40 @@
+package dri.commerce.user.infrastructure.cli;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import dri.commerce.user.infrastructure.breach.BreachedPasswordFileConverter;
+import jakarta.enterprise.context.Dependent;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "convert-breached-passwords", description = "Converte o dataset de senhas vazadas para o arquivo binário consultado no cadastro", mixinStandardHelpOptions = true)
+@Dependent
+public class ConvertBreachedPasswordsCommand implements Callable<Integer> {
+
+    @Option(names = {"--input"}, description = "Arquivo SHA1:contagem ordenado por hash (ou senhas em texto plano com --plain)", required = true)
+    Path input;
+
+    @Option(names = {"--output"}, description = "Arquivo binário gerado (user.breached-passwords.path)", required = true)
+    Path output;
+
+    @Option(names = {"--plain"}, description = "A entrada contém senhas em texto plano, uma por linha")
+    boolean plain;
+
+    /**
+     * @return Codigo de saida: 0 se o arquivo foi gerado, 1 em caso de erro (o destino anterior e mantido)
+     */
+    @Override
+    public Integer call() {
+        try {
+            long total = plain
+                    ? BreachedPasswordFileConverter.convertPlainPasswords(input, output)
+                    : BreachedPasswordFileConverter.convertSortedHashes(input, output);
+            System.out.printf("Arquivo gerado: %s (%d hashes)%n", output, total);
+            return 0;
+        } catch (Exception e) {
+            System.err.println("Erro ao converter senhas vazadas: " + e.getMessage());
+            return 1;
+        }
+    }
+}
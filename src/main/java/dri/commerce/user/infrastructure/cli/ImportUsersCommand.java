@@ -0,0 +1,66 @@
+package dri.commerce.user.infrastructure.cli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import dri.commerce.user.application.importer.ImportFormat;
+import dri.commerce.user.application.usecase.ImportUsersUseCase;
+import dri.commerce.user.domain.entity.ImportJob;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "import-users", description = "Importa usuários em massa de um arquivo CSV ou NDJSON", mixinStandardHelpOptions = true)
+@Dependent
+public class ImportUsersCommand implements Callable<Integer> {
+
+    @Option(names = {"--file"}, description = "Arquivo CSV (cabeçalho name,email,password[,role]) ou NDJSON", required = true)
+    Path file;
+
+    @Option(names = {"--format"}, description = "CSV ou NDJSON (padrão: pela extensão do arquivo)")
+    ImportFormat format;
+
+    @Option(names = {"--job-id"}, description = "Job a retomar a partir do último checkpoint")
+    String jobId;
+
+    @Inject
+    ImportUsersUseCase importUsersUseCase;
+
+    @Override
+    public Integer call() {
+        ImportFormat selectedFormat = format != null ? format : ImportFormat.fromFileName(file.getFileName().toString());
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ImportUsersUseCase.ImportReport report = importUsersUseCase.execute(
+                    reader,
+                    selectedFormat,
+                    file.getFileName().toString(),
+                    jobId,
+                    this::printProgress
+            );
+
+            ImportJob job = report.job();
+            System.out.printf("Importação %s concluída: %d importados, %d duplicados, %d com erro%n",
+                    job.id(), job.imported(), job.duplicates(), job.failed());
+            report.errors().forEach(error ->
+                    System.err.printf("  linha %d: %s%n", error.line(), error.message()));
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro ao ler arquivo: " + e.getMessage());
+            return 1;
+        } catch (Exception e) {
+            System.err.println("Erro na importação (retome com --job-id): " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private void printProgress(ImportJob job) {
+        System.out.printf("[%s] linha %d | %d importados | %d duplicados | %d com erro%n",
+                job.id(), job.lastLine(), job.imported(), job.duplicates(), job.failed());
+    }
+}
@@ -0,0 +1,19 @@
+package dri.commerce.user.infrastructure.invalidation;
+
+import java.util.List;
+
+/**
+ * Mensagem do barramento de invalidacao
+ *
+ * @param node No de origem (um ID novo a cada inicializacao)
+ * @param sequence Versao da mensagem no no de origem (1, 2, 3...); um salto indica mensagens perdidas
+ * @param users IDs de usuarios alterados
+ * @param emails Emails cadastrados (para o filtro de emails dos demais nos)
+ */
+public record InvalidationMessage(
+        String node,
+        long sequence,
+        List<String> users,
+        List<String> emails
+) {
+}
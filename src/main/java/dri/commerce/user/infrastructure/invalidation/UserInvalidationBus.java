@@ -0,0 +1,292 @@
+package dri.commerce.user.infrastructure.invalidation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.application.cache.UserChangeBroadcaster;
+import dri.commerce.user.domain.valueobject.UserId;
+import dri.commerce.user.infrastructure.bloom.RegisteredEmailFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgChannel;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Barramento de invalidacao entre nos sobre LISTEN/NOTIFY do Postgres (sem infraestrutura extra).
+ *
+ * - Alteracoes locais sao acumuladas por user.invalidation.flush-delay e enviadas em lote
+ *   (IDs repetidos no intervalo viram uma unica entrada), em mensagens de ate ~7 KB
+ * - O envio usa a mesma conexao do LISTEN, entao as mensagens de um no chegam em ordem;
+ *   cada uma leva a sequencia do no e um salto (mensagem perdida) descarta todos os caches locais
+ * - Ao (re)conectar os caches locais sao descartados, pois mensagens podem ter sido perdidas
+ */
+@ApplicationScoped
+public class UserInvalidationBus implements UserChangeBroadcaster {
+
+    private static final Logger LOG = Logger.getLogger(UserInvalidationBus.class);
+    private static final String CHANNEL = "user_cache_invalidation";
+    private static final String NOTIFY = "SELECT pg_notify($1, $2)";
+    private static final int MAX_PAYLOAD_CHARS = 7000;
+
+    @ConfigProperty(name = "user.invalidation.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.invalidation.flush-delay", defaultValue = "10ms")
+    Duration flushDelay;
+
+    @ConfigProperty(name = "quarkus.datasource.reactive.url")
+    String reactiveUrl;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    String username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    String password;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    UserCacheInvalidator userCacheInvalidator;
+
+    @Inject
+    RegisteredEmailFilter registeredEmailFilter;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> pendingUsers = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingEmails = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ConcurrentMap<String, Long> lastSequenceByNode = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private PgSubscriber subscriber;
+    private volatile boolean connected;
+
+    private Counter sentMessages;
+    private Counter receivedMessages;
+    private Counter fullFlushes;
+
+    @PostConstruct
+    void init() {
+        sentMessages = Counter.builder("user.invalidation.sent")
+                .description("Mensagens de invalidacao enviadas")
+                .register(registry);
+        receivedMessages = Counter.builder("user.invalidation.received")
+                .description("Mensagens de invalidacao recebidas de outros nos")
+                .register(registry);
+        fullFlushes = Counter.builder("user.invalidation.full-flush")
+                .description("Descartes completos de cache por reconexao ou mensagem perdida")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        PgConnectOptions options = PgConnectOptions.fromUri(reactiveUrl.replaceFirst("^vertx-reactive:", ""))
+                .setUser(username)
+                .setPassword(password);
+
+        subscriber = PgSubscriber.subscriber(vertx, options)
+                .reconnectPolicy(retries -> Math.min(30_000L, 500L * (retries + 1)));
+
+        PgChannel channel = subscriber.channel(CHANNEL);
+        channel.subscribeHandler(this::onSubscribed);
+        channel.handler(this::onMessage);
+        subscriber.closeHandler(() -> {
+            connected = false;
+            LOG.info("Invalidation bus closed");
+        });
+
+        subscriber.connect().subscribe().with(
+                ignored -> { },
+                failure -> LOG.errorf("Invalidation bus failed to connect: %s", failure.getMessage()));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (subscriber != null) {
+            subscriber.close();
+        }
+    }
+
+    @Override
+    public void userChanged(UserId id) {
+        enqueue(pendingUsers, id.value());
+    }
+
+    public void emailRegistered(String email) {
+        enqueue(pendingEmails, email);
+    }
+
+    private void enqueue(Set<String> pending, String value) {
+        if (!enabled) {
+            return;
+        }
+
+        pending.add(value);
+        if (connected && flushScheduled.compareAndSet(false, true)) {
+            vertx.setTimer(Math.max(1, flushDelay.toMillis()), ignored -> flush());
+        }
+    }
+
+    private void onSubscribed() {
+        connected = true;
+        lastSequenceByNode.clear();
+        flushAllLocal();
+        LOG.infof("Invalidation bus listening on %s (node %s)", CHANNEL, nodeId);
+
+        if (!pendingUsers.isEmpty() || !pendingEmails.isEmpty()) {
+            flushScheduled.set(true);
+            flush();
+        }
+    }
+
+    /**
+     * Envia o que foi acumulado. Roda no event loop; mensagens sao enviadas em sequencia
+     * (uma so comeca apos a anterior) para manter a ordem das versoes.
+     */
+    private void flush() {
+        List<String> users = drain(pendingUsers);
+        List<String> emails = drain(pendingEmails);
+        List<InvalidationMessage> messages = split(users, emails);
+
+        Uni<Void> chain = Uni.createFrom().voidItem();
+        for (InvalidationMessage message : messages) {
+            chain = chain.chain(() -> send(message));
+        }
+
+        chain.subscribe().with(
+                ignored -> afterFlush(),
+                failure -> {
+                    // Sem garantia de entrega: os demais nos detectam o salto de versao ao reconectar
+                    LOG.warnf("Failed to publish invalidation: %s", failure.getMessage());
+                    afterFlush();
+                });
+    }
+
+    private void afterFlush() {
+        flushScheduled.set(false);
+        if (connected && (!pendingUsers.isEmpty() || !pendingEmails.isEmpty())
+                && flushScheduled.compareAndSet(false, true)) {
+            vertx.setTimer(Math.max(1, flushDelay.toMillis()), ignored -> flush());
+        }
+    }
+
+    private Uni<Void> send(InvalidationMessage message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        return subscriber.actualConnection()
+                .preparedQuery(NOTIFY)
+                .execute(Tuple.of(CHANNEL, payload))
+                .invoke(() -> sentMessages.increment())
+                .replaceWithVoid();
+    }
+
+    private List<InvalidationMessage> split(List<String> users, List<String> emails) {
+        List<InvalidationMessage> messages = new ArrayList<>();
+        List<String> userChunk = new ArrayList<>();
+        List<String> emailChunk = new ArrayList<>();
+        int size = 0;
+
+        for (String user : users) {
+            if (size + user.length() > MAX_PAYLOAD_CHARS) {
+                messages.add(nextMessage(userChunk, emailChunk));
+                userChunk = new ArrayList<>();
+                emailChunk = new ArrayList<>();
+                size = 0;
+            }
+            userChunk.add(user);
+            size += user.length() + 3;
+        }
+        for (String email : emails) {
+            if (size + email.length() > MAX_PAYLOAD_CHARS) {
+                messages.add(nextMessage(userChunk, emailChunk));
+                userChunk = new ArrayList<>();
+                emailChunk = new ArrayList<>();
+                size = 0;
+            }
+            emailChunk.add(email);
+            size += email.length() + 3;
+        }
+        if (!userChunk.isEmpty() || !emailChunk.isEmpty()) {
+            messages.add(nextMessage(userChunk, emailChunk));
+        }
+        return messages;
+    }
+
+    private InvalidationMessage nextMessage(List<String> users, List<String> emails) {
+        return new InvalidationMessage(nodeId, sequence.incrementAndGet(), users, emails);
+    }
+
+    private void onMessage(String payload) {
+        InvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, InvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            LOG.warnf("Ignoring malformed invalidation message: %s", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(message.node())) {
+            return;
+        }
+        receivedMessages.increment();
+
+        Long previous = lastSequenceByNode.put(message.node(), message.sequence());
+        if (previous != null && message.sequence() > previous + 1) {
+            LOG.warnf("Missed %d invalidation messages from node %s, flushing local caches",
+                    message.sequence() - previous - 1, message.node());
+            flushAllLocal();
+        }
+
+        message.users().forEach(userCacheInvalidator::invalidateLocal);
+        message.emails().forEach(registeredEmailFilter::addLocal);
+    }
+
+    private void flushAllLocal() {
+        fullFlushes.increment();
+        userCacheInvalidator.invalidateAllLocal();
+    }
+
+    private static List<String> drain(Set<String> pending) {
+        List<String> drained = new ArrayList<>(pending);
+        drained.forEach(pending::remove);
+        return drained;
+    }
+}
@@ -0,0 +1,192 @@
+package dri.commerce.user.infrastructure.lookup;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import dri.commerce.user.domain.entity.Page;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserAttribute;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+import io.quarkus.arc.Arc;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+
+/**
+ * Camada de busca na frente do UserRepository para findById e findByEmail:
+ * - memoiza os resultados durante a requisicao (UserLookupMemo)
+ * - coalesce buscas concorrentes pela mesma chave (UserLookupSingleFlight)
+ *
+ * Escritas limpam a memoizacao da requisicao e descartam buscas em andamento.
+ * Dentro de uma transacao ativa a busca vai direto ao repositorio, para nao
+ * compartilhar dados ainda nao confirmados com outras threads.
+ */
+@Decorator
+@Priority(10)
+public class UserLookupDecorator implements UserRepository {
+
+    @Inject
+    @Delegate
+    UserRepository delegate;
+
+    @Inject
+    UserLookupMemo memo;
+
+    @Inject
+    UserLookupSingleFlight singleFlight;
+
+    @Override
+    public Optional<UserDomain> findById(UserId id) {
+        return lookup(UserLookupKeys.byId(id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<UserDomain> findByEmail(UserEmail email) {
+        return lookup(UserLookupKeys.byEmail(email), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public UserDomain save(UserDomain user) {
+        UserDomain saved = delegate.save(user);
+        afterWrite(saved.id(), saved.email());
+        return saved;
+    }
+
+    @Override
+    public UserDomain update(UserUpdate update) {
+        UserDomain updated = delegate.update(update);
+        if (update.hasChanges()) {
+            afterWrite(updated.id(), updated.email());
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(UserId id) {
+        boolean deleted = delegate.deleteById(id);
+        afterWrite(id, null);
+        return deleted;
+    }
+
+    @Override
+    public Map<UserId, Boolean> updateActiveStatus(Collection<UserId> ids, boolean active) {
+        Map<UserId, Boolean> result = delegate.updateActiveStatus(ids, active);
+        ids.forEach(id -> afterWrite(id, null));
+        return result;
+    }
+
+    @Override
+    public Map<UserId, Boolean> updateRole(Collection<UserId> ids, Role role) {
+        Map<UserId, Boolean> result = delegate.updateRole(ids, role);
+        ids.forEach(id -> afterWrite(id, null));
+        return result;
+    }
+
+    @Override
+    public List<UserId> archiveInactive(LocalDateTime inactiveSince, int limit) {
+        List<UserId> archived = delegate.archiveInactive(inactiveSince, limit);
+        archived.forEach(id -> afterWrite(id, null));
+        return archived;
+    }
+
+    @Override
+    public boolean restoreArchived(UserId id) {
+        boolean restored = delegate.restoreArchived(id);
+        afterWrite(id, null);
+        return restored;
+    }
+
+    @Override
+    public List<UserDomain> findAllByIds(Collection<UserId> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<UserDomain> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<UserDomain> getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    @Override
+    public Page<UserDomain> findAll(int page, int pageSize) {
+        return delegate.findAll(page, pageSize);
+    }
+
+    @Override
+    public Page<UserView> findAll(int page, int pageSize, Set<UserAttribute> attributes) {
+        return delegate.findAll(page, pageSize, attributes);
+    }
+
+    @Override
+    public boolean existsByEmail(UserEmail email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public List<UserDomain> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    private Optional<UserDomain> lookup(String key, Supplier<Optional<UserDomain>> loader) {
+        if (QuarkusTransaction.isActive()) {
+            return loader.get();
+        }
+
+        boolean requestActive = Arc.container().requestContext().isActive();
+        if (requestActive) {
+            Optional<UserDomain> cached = memo.get(key);
+            if (cached != null) {
+                singleFlight.recordMemoHit();
+                return cached;
+            }
+            if (memo.markLoadedFromDatabase(key)) {
+                singleFlight.recordDuplicateDatabaseLookup();
+            }
+        }
+
+        Optional<UserDomain> result = singleFlight.load(key, loader);
+
+        if (requestActive) {
+            memo.put(key, result);
+        }
+        return result;
+    }
+
+    private void afterWrite(UserId id, UserEmail email) {
+        if (Arc.container().requestContext().isActive()) {
+            memo.clear();
+        }
+        if (id != null) {
+            singleFlight.forget(UserLookupKeys.byId(id));
+        }
+        if (email != null) {
+            singleFlight.forget(UserLookupKeys.byEmail(email));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dri.commerce.user.infrastructure.lookup;
+
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+
+final class UserLookupKeys {
+
+    private UserLookupKeys() {
+    }
+
+    static String byId(UserId id) {
+        return "id:" + id.value();
+    }
+
+    static String byEmail(UserEmail email) {
+        return "email:" + email.value();
+    }
+}
@@ -0,0 +1,45 @@
+package dri.commerce.user.infrastructure.lookup;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dri.commerce.user.domain.entity.UserDomain;
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Memoizacao das buscas de usuario durante uma unica requisicao.
+ * Tambem registra quais chaves ja foram buscadas no banco, para detectar round trips duplicados.
+ * Mapas concorrentes: a mesma requisicao pode chegar aqui por continuacoes reativas em
+ * threads diferentes (event loop e worker pool).
+ */
+@RequestScoped
+public class UserLookupMemo {
+
+    private final Map<String, Optional<UserDomain>> results = new ConcurrentHashMap<>();
+    private final Set<String> loadedFromDatabase = ConcurrentHashMap.newKeySet();
+
+    Optional<UserDomain> get(String key) {
+        return results.get(key);
+    }
+
+    void put(String key, Optional<UserDomain> user) {
+        results.put(key, user);
+        user.ifPresent(found -> {
+            results.put(UserLookupKeys.byId(found.id()), user);
+            results.put(UserLookupKeys.byEmail(found.email()), user);
+        });
+    }
+
+    /**
+     * @return true se a chave ja tinha sido buscada no banco nesta requisicao
+     */
+    boolean markLoadedFromDatabase(String key) {
+        return !loadedFromDatabase.add(key);
+    }
+
+    void clear() {
+        results.clear();
+    }
+}
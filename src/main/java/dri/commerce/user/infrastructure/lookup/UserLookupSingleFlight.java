@@ -0,0 +1,106 @@
+package dri.commerce.user.infrastructure.lookup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Coalescencia de buscas concorrentes (single-flight): enquanto uma busca por
+ * uma chave esta em andamento, as demais threads aguardam e reutilizam o resultado
+ * em vez de abrir outra consulta no banco.
+ */
+@ApplicationScoped
+public class UserLookupSingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry registry;
+
+    private Counter databaseLookups;
+    private Counter coalescedLookups;
+    private Counter memoHits;
+    private Counter duplicateDatabaseLookups;
+
+    @PostConstruct
+    void init() {
+        databaseLookups = lookupCounter("database");
+        coalescedLookups = lookupCounter("coalesced");
+        memoHits = lookupCounter("memo");
+        duplicateDatabaseLookups = Counter.builder("user.lookup.duplicate")
+                .description("Buscas repetidas no banco pela mesma chave dentro de uma requisicao")
+                .register(registry);
+    }
+
+    /**
+     * Executa a busca, ou aguarda a busca ja em andamento para a mesma chave
+     *
+     * @param key Chave da busca (ex: "id:...")
+     * @param loader Busca real no repositorio
+     * @return Resultado compartilhado entre as threads concorrentes
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            coalescedLookups.increment();
+            return (T) await(existing);
+        }
+
+        databaseLookups.increment();
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Descarta a busca em andamento para a chave, para que leituras
+     * iniciadas apos uma escrita nao reaproveitem um resultado anterior a ela
+     */
+    public void forget(String key) {
+        inFlight.remove(key);
+    }
+
+    void recordMemoHit() {
+        memoHits.increment();
+    }
+
+    void recordDuplicateDatabaseLookup() {
+        duplicateDatabaseLookups.increment();
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter lookupCounter(String source) {
+        return Counter.builder("user.lookup")
+                .description("Buscas de usuario por id/email, por origem do resultado")
+                .tag("source", source)
+                .register(registry);
+    }
+}
@@ -33,9 +33,10 @@ public class UserMapper {
             return null;
         }
 
-        UserId id = infraUser.id != null ? UserId.from(infraUser.id) : null;
+        // Linhas do banco ja foram validadas na escrita: sem revalidar formato do ID nem senha
+        UserId id = infraUser.id != null ? new UserId(infraUser.id) : null;
         UserEmail email = new UserEmail(infraUser.email);
-        UserPassword password = new UserPassword(infraUser.password);
+        UserPassword password = UserPassword.fromHash(infraUser.password);
         Role role = Role.fromCode(infraUser.role);
 
         return UserDomain.restore(
@@ -0,0 +1,30 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.quarkus.arc.profile.IfBuildProfile;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Sink do perfil de teste: guarda os eventos publicados para inspecao
+ */
+@IfBuildProfile("test")
+@ApplicationScoped
+public class InMemoryUserEventSink implements UserEventSink {
+
+    private final List<UserEvent> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<UserEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public List<UserEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
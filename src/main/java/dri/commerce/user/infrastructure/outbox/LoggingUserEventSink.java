@@ -0,0 +1,25 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.DefaultBean;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Sink padrao enquanto nao ha broker: apenas registra os eventos no log
+ */
+@DefaultBean
+@ApplicationScoped
+public class LoggingUserEventSink implements UserEventSink {
+
+    private static final Logger LOG = Logger.getLogger(LoggingUserEventSink.class);
+
+    @Override
+    public void publish(List<UserEvent> events) {
+        for (UserEvent event : events) {
+            LOG.debugf("User event %d %s %s: %s", event.sequence(), event.type(), event.userId(), event.payload());
+        }
+    }
+}
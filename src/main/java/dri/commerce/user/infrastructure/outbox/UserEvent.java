@@ -0,0 +1,20 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+import dri.commerce.user.domain.enums.UserEventType;
+
+/**
+ * Evento lido da outbox
+ *
+ * @param sequence Identificador unico do evento; crescente por usuario, sem ordem global de commit
+ * @param payload JSON com o estado do usuario apos a escrita (sem senha)
+ */
+public record UserEvent(
+        long sequence,
+        String userId,
+        UserEventType type,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
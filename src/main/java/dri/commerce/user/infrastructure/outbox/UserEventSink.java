@@ -0,0 +1,19 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos de usuario (broker, webhook, ...).
+ *
+ * Contrato para consumidores:
+ * - Entrega at-least-once: se publish lancar excecao o lote volta para a outbox e e
+ *   reenviado. A deduplicacao deve ser por evento (sequence ja vista), nunca por marca
+ *   d'agua ("descartar sequence menor que a maior processada"): sequences sao alocadas
+ *   antes do commit, entao a N+1 pode chegar antes da N
+ * - Ordem garantida apenas por usuario (userId): eventos do mesmo usuario chegam na
+ *   ordem das escritas; entre usuarios diferentes nao ha ordem global
+ */
+public interface UserEventSink {
+
+    void publish(List<UserEvent> events);
+}
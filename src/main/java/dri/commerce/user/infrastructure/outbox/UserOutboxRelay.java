@@ -0,0 +1,199 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
+import dri.commerce.user.domain.enums.UserEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Drena a outbox em lotes e publica no UserEventSink.
+ *
+ * - Cada lote e lido, publicado e removido na mesma transacao, que segura um advisory
+ *   lock: com varios nos, apenas um drena por vez (os demais pulam a execucao), entao
+ *   lotes nunca sao publicados em paralelo e a ordem por usuario e preservada
+ * - A ordem por id e a de alocacao, nao a de commit: um id maior pode ficar visivel
+ *   antes de um menor de outro usuario ainda nao confirmado. Por usuario ela e a ordem
+ *   das escritas, pois o lock da linha em users serializa as transacoes (ver UserEventSink)
+ * - Falha no sink desfaz a transacao; o lote e reenviado na proxima execucao
+ */
+@ApplicationScoped
+public class UserOutboxRelay {
+
+    private static final Logger LOG = Logger.getLogger(UserOutboxRelay.class);
+
+    /**
+     * Chave do advisory lock do relay (compartilhada por todos os nos)
+     */
+    static final long RELAY_LOCK_KEY = 0x757365725f6f7574L;
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_xact_lock(?)";
+
+    private static final String CLAIM_BATCH = """
+            SELECT id, aggregate_id, event_type, payload::text, created_at
+            FROM user_outbox
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_BATCH = "DELETE FROM user_outbox WHERE id = ANY(?)";
+
+    private static final String OLDEST_PENDING =
+            "SELECT EXTRACT(EPOCH FROM now() - created_at) FROM user_outbox ORDER BY id LIMIT 1";
+
+    @ConfigProperty(name = "user.outbox.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.outbox.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "user.outbox.max-batches-per-run", defaultValue = "20")
+    int maxBatchesPerRun;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    UserEventSink sink;
+
+    @Inject
+    MeterRegistry registry;
+
+    private volatile double lagSeconds;
+
+    private Counter published;
+    private Counter failedBatches;
+    private Timer batchTimer;
+    private Timer deliveryLag;
+
+    @PostConstruct
+    void init() {
+        published = Counter.builder("user.outbox.published")
+                .description("Eventos de usuario publicados pelo relay")
+                .register(registry);
+        failedBatches = Counter.builder("user.outbox.failed.batches")
+                .description("Lotes devolvidos a outbox por falha no sink")
+                .register(registry);
+        batchTimer = Timer.builder("user.outbox.relay.batch")
+                .description("Tempo para ler, publicar e remover um lote da outbox")
+                .register(registry);
+        deliveryLag = Timer.builder("user.outbox.delivery.lag")
+                .description("Tempo entre a gravacao do evento e sua publicacao")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("user.outbox.lag", this, relay -> relay.lagSeconds)
+                .description("Idade do evento pendente mais antigo")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(every = "${user.outbox.poll-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            LOG.warnf("User outbox relay failed, batch will be retried: %s", e.getMessage());
+        } finally {
+            measureLag();
+        }
+    }
+
+    private int relayBatch() {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> session().doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(TRY_LOCK)) {
+                    statement.setLong(1, RELAY_LOCK_KEY);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        if (!resultSet.getBoolean(1)) {
+                            // Outro no esta drenando
+                            return 0;
+                        }
+                    }
+                }
+
+                List<UserEvent> events = new ArrayList<>();
+                try (PreparedStatement statement = connection.prepareStatement(CLAIM_BATCH)) {
+                    statement.setInt(1, batchSize);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            events.add(new UserEvent(
+                                    resultSet.getLong(1),
+                                    resultSet.getString(2),
+                                    UserEventType.valueOf(resultSet.getString(3)),
+                                    resultSet.getString(4),
+                                    resultSet.getObject(5, LocalDateTime.class)));
+                        }
+                    }
+                }
+
+                if (events.isEmpty()) {
+                    return 0;
+                }
+
+                sink.publish(events);
+
+                Array ids = connection.createArrayOf("bigint", events.stream().map(UserEvent::sequence).toArray());
+                try (PreparedStatement statement = connection.prepareStatement(DELETE_BATCH)) {
+                    statement.setArray(1, ids);
+                    statement.executeUpdate();
+                } finally {
+                    ids.free();
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                events.forEach(event -> deliveryLag.record(Duration.between(event.createdAt(), now)));
+                published.increment(events.size());
+                return events.size();
+            }));
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private void measureLag() {
+        try {
+            lagSeconds = QuarkusTransaction.requiringNew().call(() -> session().doReturningWork(connection -> {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(OLDEST_PENDING)) {
+                    return resultSet.next() ? resultSet.getDouble(1) : 0.0;
+                }
+            }));
+        } catch (RuntimeException e) {
+            LOG.debugf("Failed to measure user outbox lag: %s", e.getMessage());
+        }
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+}
@@ -0,0 +1,57 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserEventType;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Grava eventos na outbox usando a conexao da transacao de escrita:
+ * o evento so existe se a escrita for confirmada. O payload e montado no
+ * proprio banco a partir da linha ja alterada, em um unico INSERT por lote.
+ * As linhas de users sao travadas antes de alocar a sequence do evento, entao
+ * eventos do mesmo usuario recebem sequences na ordem de commit das escritas.
+ */
+@ApplicationScoped
+public class UserOutboxWriter {
+
+    private static final String ROLE_NAME = Arrays.stream(Role.values())
+            .map(role -> "WHEN %d THEN '%s'".formatted(role.getCode(), role.name()))
+            .collect(Collectors.joining(" ", "CASE role ", " END"));
+
+    private static final String APPEND = """
+            INSERT INTO user_outbox (aggregate_id, event_type, payload)
+            SELECT id, ?, jsonb_build_object(
+                'id', id, 'name', name, 'email', email, 'role', %s,
+                'active', active, 'createdAt', created_at, 'updatedAt', updated_at)
+            FROM users WHERE id = ANY(?)
+            FOR UPDATE
+            """.formatted(ROLE_NAME);
+
+    /**
+     * @param connection Conexao da transacao corrente (deve conter a escrita ainda nao confirmada)
+     * @param type Tipo do evento
+     * @param userIds Usuarios afetados; para DELETED, chamar antes de remover a linha
+     */
+    public void append(Connection connection, UserEventType type, Collection<String> userIds) throws SQLException {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Array ids = connection.createArrayOf("varchar", userIds.toArray());
+        try (PreparedStatement statement = connection.prepareStatement(APPEND)) {
+            statement.setString(1, type.name());
+            statement.setArray(2, ids);
+            statement.executeUpdate();
+        } finally {
+            ids.free();
+        }
+    }
+}
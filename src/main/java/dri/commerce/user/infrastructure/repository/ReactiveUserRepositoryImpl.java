@@ -0,0 +1,126 @@
+package dri.commerce.user.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import dri.commerce.config.QueryShape;
+import dri.commerce.config.RepositoryMetrics;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.repository.ReactiveUserRepository;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+import dri.commerce.user.infrastructure.bloom.RegisteredEmailFilter;
+import dri.commerce.user.infrastructure.entity.UserEntity;
+import dri.commerce.user.infrastructure.mapper.UserMapper;
+import dri.commerce.user.infrastructure.routing.ReadReplicaRouter;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Implementacao sobre o cliente reativo do Vert.x: a consulta nao ocupa
+ * thread enquanto aguarda o banco, e o resultado chega no event loop.
+ * O pool (replica ou primario) e escolhido na chamada, nao na inscricao: quem
+ * chama dentro de um use case @ReadOnly tem a leitura roteada como no JDBC.
+ */
+@RepositoryMetrics
+@ApplicationScoped
+public class ReactiveUserRepositoryImpl implements ReactiveUserRepository {
+
+    private static final String COLUMNS = "id, name, email, password, role, created_at, updated_at, active";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM users WHERE id = $1";
+    private static final String FIND_BY_EMAIL = "SELECT " + COLUMNS + " FROM users WHERE email = $1";
+    private static final String FIND_VERSION = "SELECT COALESCE(updated_at, created_at) FROM users WHERE id = $1";
+    private static final String EXISTS_BY_EMAIL = "SELECT EXISTS (SELECT 1 FROM users WHERE email = $1)";
+
+    @Inject
+    Pool client;
+
+    @Inject
+    @ReactiveDataSource("replica")
+    Pool replicaClient;
+
+    @Inject
+    ReadReplicaRouter readReplicaRouter;
+
+    @Inject
+    UserMapper userMapper;
+
+    @Inject
+    RegisteredEmailFilter registeredEmailFilter;
+
+    @QueryShape("pk_lookup")
+    @Override
+    public Uni<Optional<UserDomain>> findById(UserId id) {
+        return clientFor(id.value()).preparedQuery(FIND_BY_ID)
+                .execute(Tuple.of(id.value()))
+                .map(this::firstUser);
+    }
+
+    @QueryShape("unique_lookup")
+    @Override
+    public Uni<Optional<UserDomain>> findByEmail(UserEmail email) {
+        if (!registeredEmailFilter.mightContain(email.value())) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+
+        return clientFor(null).preparedQuery(FIND_BY_EMAIL)
+                .execute(Tuple.of(email.value()))
+                .map(this::firstUser);
+    }
+
+    @QueryShape("unique_exists")
+    @Override
+    public Uni<Boolean> existsByEmail(UserEmail email) {
+        if (!registeredEmailFilter.mightContain(email.value())) {
+            return Uni.createFrom().item(false);
+        }
+
+        return clientFor(null).preparedQuery(EXISTS_BY_EMAIL)
+                .execute(Tuple.of(email.value()))
+                .map(rows -> rows.iterator().next().getBoolean(0));
+    }
+
+    @QueryShape("pk_index_only")
+    @Override
+    public Uni<Optional<LocalDateTime>> findVersion(UserId id) {
+        return clientFor(id.value()).preparedQuery(FIND_VERSION)
+                .execute(Tuple.of(id.value()))
+                .map(rows -> {
+                    RowIterator<Row> iterator = rows.iterator();
+                    return iterator.hasNext()
+                            ? Optional.ofNullable(iterator.next().getLocalDateTime(0))
+                            : Optional.<LocalDateTime>empty();
+                });
+    }
+
+    private Pool clientFor(String targetUserId) {
+        return readReplicaRouter.useReplica(targetUserId) ? replicaClient : client;
+    }
+
+    private Optional<UserDomain> firstUser(RowSet<Row> rows) {
+        RowIterator<Row> iterator = rows.iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+
+        Row row = iterator.next();
+        return Optional.of(userMapper.toDomain(new UserEntity(
+                row.getString("id"),
+                row.getString("name"),
+                row.getString("email"),
+                row.getString("password"),
+                row.getInteger("role"),
+                row.getLocalDateTime("created_at"),
+                row.getLocalDateTime("updated_at"),
+                row.getBoolean("active")
+        )));
+    }
+}
@@ -0,0 +1,270 @@
+package dri.commerce.user.infrastructure.repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+
+import dri.commerce.config.DatabaseConcurrencyLimit;
+import dri.commerce.config.QueryShape;
+import dri.commerce.config.RepositoryMetrics;
+import dri.commerce.user.domain.entity.ImportJob;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.enums.ImportJobStatus;
+import dri.commerce.user.domain.enums.UserEventType;
+import dri.commerce.user.domain.exception.ImportJobAlreadyRunningException;
+import dri.commerce.user.domain.repository.UserImportRepository;
+import dri.commerce.user.infrastructure.bloom.RegisteredEmailFilter;
+import dri.commerce.user.infrastructure.outbox.UserOutboxWriter;
+import dri.commerce.user.infrastructure.routing.ReadReplicaRouter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * Persistencia da importacao em lote: cada lote e carregado via COPY em uma
+ * tabela temporaria e mesclado em users com ON CONFLICT, junto com o avanco
+ * do checkpoint do job, tudo na mesma transacao.
+ */
+@DatabaseConcurrencyLimit
+@RepositoryMetrics
+@ApplicationScoped
+public class UserImportRepositoryImpl implements UserImportRepository {
+
+    private static final String CREATE_STAGE =
+            "CREATE TEMP TABLE users_import_stage (LIKE users INCLUDING DEFAULTS) ON COMMIT DROP";
+
+    private static final String COPY_STAGE =
+            "COPY users_import_stage (id, name, email, password, role, created_at, updated_at, active) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_STAGE = """
+            INSERT INTO users (id, name, email, password, role, created_at, updated_at, active)
+            SELECT id, name, email, password, role, created_at, updated_at, active FROM users_import_stage s
+            WHERE NOT EXISTS (SELECT 1 FROM users_archive a WHERE a.email = s.email)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING id, email
+            """;
+
+    private static final String INSERT_JOB = """
+            INSERT INTO user_import_jobs (id, source, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_JOB = """
+            SELECT id, source, status, last_line, imported, duplicates, failed, created_at, updated_at
+            FROM user_import_jobs WHERE id = ?
+            """;
+
+    private static final String LOCK_JOB = SELECT_JOB + " FOR UPDATE";
+
+    private static final String ADVANCE_JOB = """
+            UPDATE user_import_jobs
+            SET last_line = ?, imported = imported + ?, duplicates = duplicates + ?, failed = failed + ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private static final String UPDATE_JOB_STATUS =
+            "UPDATE user_import_jobs SET status = ?, updated_at = ? WHERE id = ?";
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    RegisteredEmailFilter registeredEmailFilter;
+
+    @Inject
+    ReadReplicaRouter readReplicaRouter;
+
+    @Inject
+    UserOutboxWriter userOutboxWriter;
+
+    @QueryShape("insert")
+    @Override
+    @Transactional
+    public ImportJob createJob(String source) {
+        String id = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+
+        session().doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_JOB)) {
+                statement.setString(1, id);
+                statement.setString(2, source);
+                statement.setString(3, ImportJobStatus.RUNNING.name());
+                statement.setObject(4, now);
+                statement.setObject(5, now);
+                statement.executeUpdate();
+            }
+        });
+
+        return new ImportJob(id, source, ImportJobStatus.RUNNING, 0, 0, 0, 0, now, now);
+    }
+
+    @QueryShape("pk_lookup")
+    @Override
+    @Transactional
+    public Optional<ImportJob> findJob(String jobId) {
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_JOB)) {
+                statement.setString(1, jobId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(toJob(resultSet)) : Optional.<ImportJob>empty();
+                }
+            }
+        });
+    }
+
+    @QueryShape("pk_lock")
+    @Override
+    @Transactional
+    public Optional<ImportJob> claimJob(String jobId, LocalDateTime runningSince) {
+        return session().doReturningWork(connection -> {
+            ImportJob job;
+            try (PreparedStatement statement = connection.prepareStatement(LOCK_JOB)) {
+                statement.setString(1, jobId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return Optional.<ImportJob>empty();
+                    }
+                    job = toJob(resultSet);
+                }
+            }
+
+            if (job.status() == ImportJobStatus.COMPLETED) {
+                return Optional.of(job);
+            }
+            if (job.status() == ImportJobStatus.RUNNING && job.updatedAt().isAfter(runningSince)) {
+                throw new ImportJobAlreadyRunningException("Import job is already running: " + jobId);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_JOB_STATUS)) {
+                statement.setString(1, ImportJobStatus.RUNNING.name());
+                statement.setObject(2, now);
+                statement.setString(3, jobId);
+                statement.executeUpdate();
+            }
+
+            return Optional.of(new ImportJob(job.id(), job.source(), ImportJobStatus.RUNNING, job.lastLine(),
+                    job.imported(), job.duplicates(), job.failed(), job.createdAt(), now));
+        });
+    }
+
+    @QueryShape("copy_merge")
+    @Override
+    @Transactional
+    public ImportJob loadBatch(String jobId, List<UserDomain> users, long lastLine, long failed) {
+        List<String> insertedIds = new ArrayList<>();
+        List<String> insertedEmails = session().doReturningWork(connection -> {
+            List<String> inserted = new ArrayList<>();
+
+            if (!users.isEmpty()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGE);
+                }
+
+                try {
+                    connection.unwrap(PGConnection.class)
+                            .getCopyAPI()
+                            .copyIn(COPY_STAGE, new StringReader(toCsv(users)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to copy import batch", e);
+                }
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(MERGE_STAGE)) {
+                    while (resultSet.next()) {
+                        insertedIds.add(resultSet.getString(1));
+                        inserted.add(resultSet.getString(2));
+                    }
+                }
+
+                userOutboxWriter.append(connection, UserEventType.CREATED, insertedIds);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(ADVANCE_JOB)) {
+                statement.setLong(1, lastLine);
+                statement.setLong(2, inserted.size());
+                statement.setLong(3, users.size() - inserted.size());
+                statement.setLong(4, failed);
+                statement.setObject(5, LocalDateTime.now());
+                statement.setString(6, jobId);
+                statement.executeUpdate();
+            }
+
+            return inserted;
+        });
+
+        insertedEmails.forEach(registeredEmailFilter::add);
+        // A importacao via API roda fora da requisicao (sem principal nem cookie):
+        // o pin por ID e o que leva leituras recentes desses usuarios ao primario
+        readReplicaRouter.recordWrite(insertedIds);
+
+        return findJob(jobId).orElseThrow();
+    }
+
+    @QueryShape("pk_update")
+    @Override
+    @Transactional
+    public ImportJob updateStatus(String jobId, ImportJobStatus status) {
+        session().doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_JOB_STATUS)) {
+                statement.setString(1, status.name());
+                statement.setObject(2, LocalDateTime.now());
+                statement.setString(3, jobId);
+                statement.executeUpdate();
+            }
+        });
+
+        return findJob(jobId).orElseThrow();
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    private static String toCsv(List<UserDomain> users) {
+        StringBuilder csv = new StringBuilder(users.size() * 160);
+        for (UserDomain user : users) {
+            appendQuoted(csv, UUID.randomUUID().toString()).append(',');
+            appendQuoted(csv, user.name()).append(',');
+            appendQuoted(csv, user.email().value()).append(',');
+            appendQuoted(csv, user.password().value()).append(',');
+            csv.append(user.role().getCode()).append(',');
+            csv.append(user.createdAt()).append(',');
+            csv.append(user.updatedAt()).append(',');
+            csv.append(user.active()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static ImportJob toJob(ResultSet resultSet) throws SQLException {
+        return new ImportJob(
+                resultSet.getString("id"),
+                resultSet.getString("source"),
+                ImportJobStatus.valueOf(resultSet.getString("status")),
+                resultSet.getLong("last_line"),
+                resultSet.getLong("imported"),
+                resultSet.getLong("duplicates"),
+                resultSet.getLong("failed"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class)
+        );
+    }
+}
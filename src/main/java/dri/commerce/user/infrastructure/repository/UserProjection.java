@@ -0,0 +1,74 @@
+package dri.commerce.user.infrastructure.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserAttribute;
+
+/**
+ * Consultas paginadas que leem apenas as colunas pedidas (fields=), compartilhadas
+ * entre primario e replica. O SQL de cada combinacao e montado uma vez.
+ */
+final class UserProjection {
+
+    private static final AtomicReferenceArray<String> PAGE_QUERIES =
+            new AtomicReferenceArray<>(1 << UserAttribute.values().length);
+
+    private UserProjection() {
+    }
+
+    /**
+     * SELECT das colunas pedidas, ordenado como findAll; parametros: LIMIT e OFFSET
+     */
+    static String pageQuery(Set<UserAttribute> attributes) {
+        int mask = 0;
+        for (UserAttribute attribute : attributes) {
+            mask |= 1 << attribute.ordinal();
+        }
+
+        String sql = PAGE_QUERIES.get(mask);
+        if (sql == null) {
+            StringBuilder columns = new StringBuilder();
+            for (UserAttribute attribute : UserAttribute.values()) {
+                if ((mask & (1 << attribute.ordinal())) != 0) {
+                    columns.append(columns.isEmpty() ? "" : ", ").append(columnOf(attribute));
+                }
+            }
+            sql = "SELECT " + columns + " FROM users ORDER BY created_at DESC LIMIT ? OFFSET ?";
+            PAGE_QUERIES.compareAndSet(mask, null, sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Modelo de leitura com os atributos pedidos; os demais ficam null
+     */
+    static UserView read(ResultSet resultSet, Set<UserAttribute> attributes) throws SQLException {
+        return new UserView(
+                attributes.contains(UserAttribute.ID) ? resultSet.getString("id") : null,
+                attributes.contains(UserAttribute.NAME) ? resultSet.getString("name") : null,
+                attributes.contains(UserAttribute.EMAIL) ? resultSet.getString("email") : null,
+                attributes.contains(UserAttribute.ROLE) ? Role.fromCode(resultSet.getInt("role")) : null,
+                attributes.contains(UserAttribute.CREATED_AT) ? resultSet.getObject("created_at", LocalDateTime.class) : null,
+                attributes.contains(UserAttribute.UPDATED_AT) ? resultSet.getObject("updated_at", LocalDateTime.class) : null,
+                attributes.contains(UserAttribute.ACTIVE) ? resultSet.getBoolean("active") : null
+        );
+    }
+
+    private static String columnOf(UserAttribute attribute) {
+        return switch (attribute) {
+            case ID -> "id";
+            case NAME -> "name";
+            case EMAIL -> "email";
+            case ROLE -> "role";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case ACTIVE -> "active";
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package dri.commerce.user.infrastructure.repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import dri.commerce.user.domain.entity.Page;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.UserAttribute;
+import dri.commerce.user.infrastructure.entity.UserEntity;
+import dri.commerce.user.infrastructure.mapper.UserMapper;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Leituras de usuarios na replica (datasource "replica").
+ * Usa JDBC direto porque a entidade UserEntity pertence a unidade de persistencia do primario.
+ */
+@ApplicationScoped
+public class UserReplicaReader {
+
+    private static final String COLUMNS = "id, name, email, password, role, created_at, updated_at, active";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM users WHERE id = ?";
+    private static final String FIND_BY_EMAIL = "SELECT " + COLUMNS + " FROM users WHERE email = ?";
+    private static final String FIND_ALL_BY_IDS = "SELECT " + COLUMNS + " FROM users WHERE id = ANY(?)";
+    private static final String FIND_PAGE = "SELECT " + COLUMNS + " FROM users ORDER BY created_at DESC LIMIT ? OFFSET ?";
+    private static final String COUNT_ALL = "SELECT COALESCE(SUM(total), 0) FROM user_stats WHERE NOT archived";
+    private static final String FIND_BY_NAME = "SELECT " + COLUMNS + " FROM users WHERE LOWER(name) LIKE LOWER(?)";
+
+    @Inject
+    @DataSource("replica")
+    AgroalDataSource replicaDataSource;
+
+    @Inject
+    UserMapper userMapper;
+
+    public Optional<UserDomain> findById(String id) {
+        return queryList(FIND_BY_ID, id).stream().findFirst();
+    }
+
+    public Optional<UserDomain> findByEmail(String email) {
+        return queryList(FIND_BY_EMAIL, email).stream().findFirst();
+    }
+
+    public List<UserDomain> findAllByIds(String[] ids) {
+        try (Connection connection = replicaDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_ALL_BY_IDS)) {
+            Array idArray = connection.createArrayOf("varchar", ids);
+            try {
+                statement.setArray(1, idArray);
+
+                List<UserDomain> users = new ArrayList<>(ids.length);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        users.add(userMapper.toDomain(toEntity(resultSet)));
+                    }
+                }
+                return users;
+            } finally {
+                idArray.free();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read users from read replica", e);
+        }
+    }
+
+    public Page<UserDomain> findAll(int page, int pageSize) {
+        List<UserDomain> users = queryList(FIND_PAGE, pageSize, (long) (page - 1) * pageSize);
+        return Page.of(users, countAll(), page, pageSize);
+    }
+
+    public Page<UserView> findAll(int page, int pageSize, Set<UserAttribute> attributes) {
+        List<UserView> users = new ArrayList<>(pageSize);
+
+        try (Connection connection = replicaDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(UserProjection.pageQuery(attributes))) {
+            statement.setInt(1, pageSize);
+            statement.setLong(2, (long) (page - 1) * pageSize);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    users.add(UserProjection.read(resultSet, attributes));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read users from read replica", e);
+        }
+
+        return Page.of(users, countAll(), page, pageSize);
+    }
+
+    public List<UserDomain> findByNameContaining(String name) {
+        return queryList(FIND_BY_NAME, "%" + name + "%");
+    }
+
+    private long countAll() {
+        try (Connection connection = replicaDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(COUNT_ALL);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to count users on read replica", e);
+        }
+    }
+
+    private List<UserDomain> queryList(String sql, Object... parameters) {
+        try (Connection connection = replicaDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+
+            List<UserDomain> users = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    users.add(userMapper.toDomain(toEntity(resultSet)));
+                }
+            }
+            return users;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read users from read replica", e);
+        }
+    }
+
+    static UserEntity toEntity(ResultSet resultSet) throws SQLException {
+        return new UserEntity(
+                resultSet.getString("id"),
+                resultSet.getString("name"),
+                resultSet.getString("email"),
+                resultSet.getString("password"),
+                resultSet.getInt("role"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class),
+                resultSet.getBoolean("active")
+        );
+    }
+}
@@ -1,55 +1,326 @@
 package dri.commerce.user.infrastructure.repository;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.Session;
+
+import dri.commerce.config.DatabaseConcurrencyLimit;
+import dri.commerce.config.QueryShape;
+import dri.commerce.config.RepositoryMetrics;
 import dri.commerce.user.domain.entity.Page;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserAttribute;
+import dri.commerce.user.domain.enums.UserEventType;
+import dri.commerce.user.domain.enums.UserField;
+import dri.commerce.user.domain.exception.EmailAlreadyExistsException;
+import dri.commerce.user.domain.exception.UserNotFoundException;
 import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.repository.UserStatsRepository;
 import dri.commerce.user.domain.valueobject.UserEmail;
 import dri.commerce.user.domain.valueobject.UserId;
+import dri.commerce.user.infrastructure.bloom.RegisteredEmailFilter;
 import dri.commerce.user.infrastructure.entity.UserEntity;
 import dri.commerce.user.infrastructure.mapper.UserMapper;
+import dri.commerce.user.infrastructure.outbox.UserOutboxWriter;
+import dri.commerce.user.infrastructure.routing.ReadReplicaRouter;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+@DatabaseConcurrencyLimit
+@RepositoryMetrics
 @ApplicationScoped
 public class UserRepositoryImpl implements PanacheRepositoryBase<UserEntity, String>, UserRepository {
 
+    private static final String INSERT_IF_EMAIL_FREE = """
+            INSERT INTO users (id, name, email, password, role, created_at, updated_at, active)
+            SELECT ?, ?, ?, ?, ?, ?, ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM users_archive WHERE email = ?)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING id
+            """;
+
+    /**
+     * Move um lote de inativos para users_archive; linhas travadas por outra
+     * transacao ficam para o proximo lote. Linhas cujo email ja esta arquivado ficam
+     * em users: o UNIQUE(email) do arquivo desfaria o lote inteiro a cada execucao
+     */
+    private static final String ARCHIVE_INACTIVE = """
+            WITH moved AS (
+                DELETE FROM users WHERE id IN (
+                    SELECT id FROM users
+                    WHERE NOT active AND updated_at < ?
+                      AND NOT EXISTS (SELECT 1 FROM users_archive a WHERE a.email = users.email)
+                    ORDER BY updated_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id, name, email, password, role, created_at, updated_at, active
+            )
+            INSERT INTO users_archive (id, name, email, password, role, created_at, updated_at, active)
+            SELECT id, name, email, password, role, created_at, updated_at, active FROM moved
+            RETURNING id
+            """;
+
+    /**
+     * Devolve o usuario arquivado para users; se o email ja foi reutilizado o insert
+     * nao acontece e a contagem permite desfazer a remocao do arquivo (rollback)
+     */
+    private static final String RESTORE_ARCHIVED = """
+            WITH restored AS (
+                DELETE FROM users_archive WHERE id = ?
+                RETURNING id, name, email, password, role, created_at, updated_at, active
+            ), inserted AS (
+                INSERT INTO users (id, name, email, password, role, created_at, updated_at, active)
+                SELECT id, name, email, password, role, created_at, updated_at, active FROM restored
+                ON CONFLICT (email) DO NOTHING
+                RETURNING email
+            )
+            SELECT (SELECT count(*) FROM restored), (SELECT email FROM restored), (SELECT count(*) FROM inserted)
+            """;
+
+    /**
+     * Atualizacao em lote de uma coluna: trava as linhas existentes do lote,
+     * altera apenas as que tem valor diferente e devolve, para cada ID existente,
+     * se a linha foi alterada. Um unico round trip por lote.
+     */
+    private static final String BULK_UPDATE_TEMPLATE = """
+            WITH target AS (
+                SELECT id, %1$s AS current_value FROM users WHERE id = ANY(?) FOR UPDATE
+            ), changed AS (
+                UPDATE users u SET %1$s = ?, updated_at = ?
+                FROM target t
+                WHERE u.id = t.id AND t.current_value IS DISTINCT FROM ?
+                RETURNING u.id
+            )
+            SELECT t.id, changed.id IS NOT NULL
+            FROM target t LEFT JOIN changed ON changed.id = t.id
+            """;
+
+    private static final String FIND_ALL_BY_IDS = """
+            SELECT id, name, email, password, role, created_at, updated_at, active
+            FROM users WHERE id = ANY(?)
+            """;
+
+    private static final String USER_EXISTS = "SELECT 1 FROM users WHERE id = ?";
+
+    private static final String BULK_UPDATE_ACTIVE = BULK_UPDATE_TEMPLATE.formatted("active");
+    private static final String BULK_UPDATE_ROLE = BULK_UPDATE_TEMPLATE.formatted("role");
+
+    /**
+     * UPDATE de cada combinacao de campos alterados, indexado pelos bits de UserField.ordinal().
+     * Com EMAIL, o mesmo NOT EXISTS do insert impede tomar o email de um usuario arquivado
+     */
+    private static final String[] UPDATE_CHANGED_FIELDS = partialUpdates();
+
     @Inject
     UserMapper userMapper;
 
+    @Inject
+    RegisteredEmailFilter registeredEmailFilter;
+
+    @Inject
+    ReadReplicaRouter readReplicaRouter;
+
+    @Inject
+    UserReplicaReader userReplicaReader;
+
+    @Inject
+    UserStatsRepository userStatsRepository;
+
+    @Inject
+    UserOutboxWriter userOutboxWriter;
+
+    /**
+     * Insere o usuario em um unico round trip; a unicidade do email e garantida
+     * pela constraint UNIQUE, sem consulta previa (e sem corrida entre cadastros simultaneos)
+     *
+     * @throws EmailAlreadyExistsException se o email ja estiver cadastrado
+     */
+    @QueryShape("insert_on_conflict")
     @Override
     @Transactional
     public UserDomain save(UserDomain user) {
-        UserEntity entity = userMapper.toInfrastructure(user);
-        persist(entity);
-        return userMapper.toDomain(entity);
+        String id = UUID.randomUUID().toString();
+
+        boolean inserted = getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_IF_EMAIL_FREE)) {
+                statement.setString(1, id);
+                statement.setString(2, user.name());
+                statement.setString(3, user.email().value());
+                statement.setString(4, user.password().value());
+                statement.setInt(5, user.role().getCode());
+                statement.setObject(6, user.createdAt());
+                statement.setObject(7, user.updatedAt());
+                statement.setBoolean(8, user.active());
+                statement.setString(9, user.email().value());
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                }
+            }
+
+            userOutboxWriter.append(connection, UserEventType.CREATED, List.of(id));
+            return true;
+        });
+
+        if (!inserted) {
+            throw new EmailAlreadyExistsException("Email already exists: " + user.email().value());
+        }
+
+        registeredEmailFilter.add(user.email().value());
+        readReplicaRouter.recordWrite(id);
+        return user.withId(new UserId(id));
     }
 
+    /**
+     * Atualiza apenas as colunas alteradas, sem carregar a entidade nem passar pelo merge
+     *
+     * @throws EmailAlreadyExistsException se o novo email pertencer a um usuario arquivado
+     */
+    @QueryShape("pk_update")
     @Override
     @Transactional
-    public UserDomain update(UserDomain user) {
-        UserEntity entity = userMapper.toInfrastructure(user);
-        getEntityManager().merge(entity);
+    public UserDomain update(UserUpdate update) {
+        UserDomain user = update.user();
+        if (!update.hasChanges()) {
+            return user;
+        }
+
+        String id = user.id().value();
+        UserEventType eventType = eventTypeOf(update);
+
+        boolean emailChanged = update.changed(UserField.EMAIL);
+        boolean updated = getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            int mask = 0;
+            for (UserField field : update.changedFields()) {
+                mask |= 1 << field.ordinal();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_CHANGED_FIELDS[mask])) {
+                int index = 1;
+                for (UserField field : UserField.values()) {
+                    if (!update.changed(field)) {
+                        continue;
+                    }
+                    switch (field) {
+                        case NAME -> statement.setString(index++, user.name());
+                        case EMAIL -> statement.setString(index++, user.email().value());
+                        case PASSWORD -> statement.setString(index++, user.password().value());
+                        case ROLE -> statement.setInt(index++, user.role().getCode());
+                        case ACTIVE -> statement.setBoolean(index++, user.active());
+                    }
+                }
+                statement.setObject(index++, user.updatedAt());
+                statement.setString(index++, id);
+                if (emailChanged) {
+                    statement.setString(index, user.email().value());
+                }
+
+                if (statement.executeUpdate() == 0) {
+                    // Sem linha alterada: o usuario nao existe ou o email esta arquivado
+                    if (emailChanged && exists(connection, id)) {
+                        throw new EmailAlreadyExistsException("Email already in use: " + user.email().value());
+                    }
+                    return false;
+                }
+            }
+
+            userOutboxWriter.append(connection, eventType, List.of(id));
+            return true;
+        });
+
+        if (!updated) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+
+        if (emailChanged) {
+            registeredEmailFilter.add(user.email().value());
+        }
+        readReplicaRouter.recordWrite(id);
         return user;
     }
 
+    @QueryShape("pk_lookup")
     @Override
     public Optional<UserDomain> findById(UserId id) {
+        if (readReplicaRouter.useReplica(id.value())) {
+            return userReplicaReader.findById(id.value());
+        }
+
         return findByIdOptional(id.value())
                 .map(userMapper::toDomain);
     }
 
+    @QueryShape("unique_lookup")
     @Override
     public Optional<UserDomain> findByEmail(UserEmail email) {
+        if (!registeredEmailFilter.mightContain(email.value())) {
+            return Optional.empty();
+        }
+
+        if (readReplicaRouter.useReplica()) {
+            return userReplicaReader.findByEmail(email.value());
+        }
+
         return find("email", email.value()).firstResultOptional()
                 .map(userMapper::toDomain);
     }
 
+    /**
+     * Um unico round trip para o lote, com o mesmo statement para qualquer quantidade de IDs
+     */
+    @QueryShape(value = "pk_multi_get", bounded = true)
+    @Override
+    public List<UserDomain> findAllByIds(Collection<UserId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        String[] idValues = ids.stream().map(UserId::value).toArray(String[]::new);
+        if (readReplicaRouter.useReplica()) {
+            return userReplicaReader.findAllByIds(idValues);
+        }
+
+        return getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            Array idArray = connection.createArrayOf("varchar", idValues);
+            try (PreparedStatement statement = connection.prepareStatement(FIND_ALL_BY_IDS)) {
+                statement.setArray(1, idArray);
+
+                List<UserDomain> users = new ArrayList<>(idValues.length);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        users.add(userMapper.toDomain(UserReplicaReader.toEntity(resultSet)));
+                    }
+                }
+                return users;
+            } finally {
+                idArray.free();
+            }
+        });
+    }
+
+    @QueryShape("full_scan")
     @Override
     public List<UserDomain> findAllActive() {
         return find("active", true)
@@ -59,6 +330,7 @@ public class UserRepositoryImpl implements PanacheRepositoryBase<UserEntity, Str
                 .collect(Collectors.toList());
     }
 
+    @QueryShape("full_scan")
     @Override
     public List<UserDomain> getAllUsers() {
         return listAll()
@@ -67,8 +339,13 @@ public class UserRepositoryImpl implements PanacheRepositoryBase<UserEntity, Str
                 .collect(Collectors.toList());
     }
 
+    @QueryShape("page_scan")
     @Override
     public Page<UserDomain> findAll(int page, int pageSize) {
+        if (readReplicaRouter.useReplica()) {
+            return userReplicaReader.findAll(page, pageSize);
+        }
+
         List<UserDomain> users = find("ORDER BY createdAt DESC")
                 .page(page - 1, pageSize)
                 .list()
@@ -76,40 +353,224 @@ public class UserRepositoryImpl implements PanacheRepositoryBase<UserEntity, Str
                 .map(userMapper::toDomain)
                 .collect(Collectors.toList());
 
-        return Page.of(users, total(), page, pageSize);
+        return Page.of(users, userStatsRepository.countAll(), page, pageSize);
     }
 
+    @QueryShape("page_projection")
+    @Override
+    public Page<UserView> findAll(int page, int pageSize, Set<UserAttribute> attributes) {
+        if (readReplicaRouter.useReplica()) {
+            return userReplicaReader.findAll(page, pageSize, attributes);
+        }
+
+        List<UserView> users = getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UserProjection.pageQuery(attributes))) {
+                statement.setInt(1, pageSize);
+                statement.setLong(2, (long) (page - 1) * pageSize);
+
+                List<UserView> result = new ArrayList<>(pageSize);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(UserProjection.read(resultSet, attributes));
+                    }
+                }
+                return result;
+            }
+        });
+
+        return Page.of(users, userStatsRepository.countAll(), page, pageSize);
+    }
+
+    @QueryShape("unique_exists")
     @Override
     public boolean existsByEmail(UserEmail email) {
+        if (!registeredEmailFilter.mightContain(email.value())) {
+            return false;
+        }
+
         return count("email", email.value()) > 0;
     }
 
+    @QueryShape("pk_delete")
     @Override
     @Transactional
     public boolean deleteById(UserId id) {
+        getEntityManager().unwrap(Session.class).doWork(connection ->
+                userOutboxWriter.append(connection, UserEventType.DELETED, List.of(id.value())));
+        readReplicaRouter.recordWrite(id.value());
         return delete("id", id.value()) > 0;
     }
 
+    @QueryShape("rollup_sum")
     @Override
     public long countActive() {
-        return count("active", true);
+        return userStatsRepository.countActive();
     }
 
+    @QueryShape("rollup_sum")
     @Override
     public long count() {
-        return listAll().size();
+        return userStatsRepository.countAll();
+    }
+
+    @QueryShape("bulk_update")
+    @Override
+    @Transactional
+    public Map<UserId, Boolean> updateActiveStatus(Collection<UserId> ids, boolean active) {
+        return bulkUpdate(BULK_UPDATE_ACTIVE, ids, active,
+                active ? UserEventType.ACTIVATED : UserEventType.DEACTIVATED);
+    }
+
+    @QueryShape("bulk_update")
+    @Override
+    @Transactional
+    public Map<UserId, Boolean> updateRole(Collection<UserId> ids, Role role) {
+        return bulkUpdate(BULK_UPDATE_ROLE, ids, role.getCode(), UserEventType.ROLE_CHANGED);
+    }
+
+    private Map<UserId, Boolean> bulkUpdate(String sql, Collection<UserId> ids, Object value, UserEventType eventType) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        readReplicaRouter.recordWrite(ids.stream().map(UserId::value).toList());
+        return getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            Array idArray = connection.createArrayOf("varchar", ids.stream().map(UserId::value).toArray());
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setArray(1, idArray);
+                statement.setObject(2, value);
+                statement.setObject(3, LocalDateTime.now());
+                statement.setObject(4, value);
+
+                Map<UserId, Boolean> result = new HashMap<>();
+                List<String> changed = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        boolean rowChanged = resultSet.getBoolean(2);
+                        result.put(new UserId(resultSet.getString(1)), rowChanged);
+                        if (rowChanged) {
+                            changed.add(resultSet.getString(1));
+                        }
+                    }
+                }
+
+                userOutboxWriter.append(connection, eventType, changed);
+                return result;
+            } finally {
+                idArray.free();
+            }
+        });
     }
 
-    private long total() {
-        return listAll().size();
+    @QueryShape("archive_batch")
+    @Override
+    @Transactional
+    public List<UserId> archiveInactive(LocalDateTime inactiveSince, int limit) {
+        return getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ARCHIVE_INACTIVE)) {
+                statement.setObject(1, inactiveSince);
+                statement.setInt(2, limit);
+
+                List<UserId> archived = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        archived.add(new UserId(resultSet.getString(1)));
+                    }
+                }
+                return archived;
+            }
+        });
+    }
+
+    @QueryShape("archive_restore")
+    @Override
+    @Transactional
+    public boolean restoreArchived(UserId id) {
+        String[] restoredEmail = new String[1];
+        int[] counts = getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(RESTORE_ARCHIVED)) {
+                statement.setString(1, id.value());
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    restoredEmail[0] = resultSet.getString(2);
+                    return new int[] {resultSet.getInt(1), resultSet.getInt(3)};
+                }
+            }
+        });
+
+        if (counts[0] == 0) {
+            return false;
+        }
+        if (counts[1] == 0) {
+            throw new EmailAlreadyExistsException("Email already exists: " + restoredEmail[0]);
+        }
+
+        registeredEmailFilter.add(restoredEmail[0]);
+        readReplicaRouter.recordWrite(id.value());
+        return true;
     }
 
+    @QueryShape("like_scan")
     @Override
     public List<UserDomain> findByNameContaining(String name) {
+        if (readReplicaRouter.useReplica()) {
+            return userReplicaReader.findByNameContaining(name);
+        }
+
         return find("LOWER(name) LIKE LOWER(?1)", "%" + name + "%")
                 .list()
                 .stream()
                 .map(userMapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private static UserEventType eventTypeOf(UserUpdate update) {
+        if (update.changed(UserField.ACTIVE)) {
+            return update.user().active() ? UserEventType.ACTIVATED : UserEventType.DEACTIVATED;
+        }
+        if (update.changedFields().size() == 1 && update.changed(UserField.ROLE)) {
+            return UserEventType.ROLE_CHANGED;
+        }
+        return UserEventType.UPDATED;
+    }
+
+    private static String[] partialUpdates() {
+        UserField[] fields = UserField.values();
+        String[] statements = new String[1 << fields.length];
+
+        for (int mask = 1; mask < statements.length; mask++) {
+            StringBuilder sql = new StringBuilder("UPDATE users SET ");
+            for (UserField field : fields) {
+                if ((mask & (1 << field.ordinal())) != 0) {
+                    sql.append(columnOf(field)).append(" = ?, ");
+                }
+            }
+            sql.append("updated_at = ? WHERE id = ?");
+            if ((mask & (1 << UserField.EMAIL.ordinal())) != 0) {
+                sql.append(" AND NOT EXISTS (SELECT 1 FROM users_archive WHERE email = ?)");
+            }
+            statements[mask] = sql.toString();
+        }
+        return statements;
+    }
+
+    private static boolean exists(Connection connection, String id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(USER_EXISTS)) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private static String columnOf(UserField field) {
+        return switch (field) {
+            case NAME -> "name";
+            case EMAIL -> "email";
+            case PASSWORD -> "password";
+            case ROLE -> "role";
+            case ACTIVE -> "active";
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package dri.commerce.user.infrastructure.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import dri.commerce.config.DatabaseConcurrencyLimit;
+import dri.commerce.config.QueryShape;
+import dri.commerce.config.RepositoryMetrics;
+import dri.commerce.user.domain.entity.UserStats;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.repository.UserStatsRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Leitura da tabela user_stats, mantida por triggers a cada escrita em users.
+ * A tabela tem ate 8 linhas (buckets) por (papel, status, dia de cadastro), entao as
+ * somas nao dependem do numero de usuarios; toda leitura soma os buckets. O retrato servido ao dashboard fica em memoria
+ * e e recarregado a cada user.stats.refresh-interval.
+ */
+@DatabaseConcurrencyLimit
+@RepositoryMetrics
+@ApplicationScoped
+public class UserStatsRepositoryImpl implements UserStatsRepository {
+
+    private static final Logger LOG = Logger.getLogger(UserStatsRepositoryImpl.class);
+
+    private static final String COUNT_ALL = "SELECT COALESCE(SUM(total), 0) FROM user_stats WHERE NOT archived";
+    private static final String COUNT_ACTIVE = "SELECT COALESCE(SUM(total), 0) FROM user_stats WHERE active";
+    private static final String BY_ROLE_AND_STATUS = "SELECT role, active, SUM(total) FROM user_stats GROUP BY role, active";
+    private static final String BY_SIGNUP_DAY = """
+            SELECT signup_day, SUM(total) FROM user_stats
+            WHERE signup_day >= ?1
+            GROUP BY signup_day
+            """;
+
+    @ConfigProperty(name = "user.stats.signup-days", defaultValue = "30")
+    int signupDays;
+
+    @Inject
+    EntityManager entityManager;
+
+    private volatile UserStats snapshot;
+
+    void onStart(@Observes StartupEvent event) {
+        refresh();
+    }
+
+    @Scheduled(every = "${user.stats.refresh-interval:10s}", delayed = "${user.stats.refresh-interval:10s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void refresh() {
+        try {
+            snapshot = QuarkusTransaction.requiringNew().call(this::load);
+        } catch (RuntimeException e) {
+            LOG.errorf("Failed to refresh user stats, keeping previous snapshot: %s", e.getMessage());
+        }
+    }
+
+    @Override
+    public UserStats current() {
+        UserStats current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @Override
+    @QueryShape("rollup_sum")
+    public long countAll() {
+        return ((Number) entityManager.createNativeQuery(COUNT_ALL).getSingleResult()).longValue();
+    }
+
+    @Override
+    @QueryShape("rollup_sum")
+    public long countActive() {
+        return ((Number) entityManager.createNativeQuery(COUNT_ACTIVE).getSingleResult()).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private UserStats load() {
+        Map<Role, Long> byRole = new EnumMap<>(Role.class);
+        long active = 0;
+        long inactive = 0;
+
+        for (Object[] row : (List<Object[]>) entityManager.createNativeQuery(BY_ROLE_AND_STATUS).getResultList()) {
+            Role role = Role.fromCode(((Number) row[0]).intValue());
+            long total = ((Number) row[2]).longValue();
+
+            byRole.merge(role, total, Long::sum);
+            if ((Boolean) row[1]) {
+                active += total;
+            } else {
+                inactive += total;
+            }
+        }
+
+        SortedMap<LocalDate, Long> signupsByDay = new TreeMap<>();
+        List<Object[]> days = entityManager.createNativeQuery(BY_SIGNUP_DAY)
+                .setParameter(1, LocalDate.now().minusDays(signupDays - 1L))
+                .getResultList();
+        for (Object[] row : days) {
+            LocalDate day = row[0] instanceof Date date ? date.toLocalDate() : (LocalDate) row[0];
+            signupsByDay.put(day, ((Number) row[1]).longValue());
+        }
+
+        return new UserStats(
+                active + inactive,
+                active,
+                inactive,
+                Collections.unmodifiableMap(byRole),
+                Collections.unmodifiableSortedMap(signupsByDay),
+                LocalDateTime.now()
+        );
+    }
+}
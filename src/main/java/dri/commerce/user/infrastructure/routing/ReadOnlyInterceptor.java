@@ -0,0 +1,27 @@
+package dri.commerce.user.infrastructure.routing;
+
+import dri.commerce.user.application.annotation.ReadOnly;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class ReadOnlyInterceptor {
+
+    @Inject
+    ReadReplicaRouter readReplicaRouter;
+
+    @AroundInvoke
+    Object route(InvocationContext context) throws Exception {
+        readReplicaRouter.enterReadOnly();
+        try {
+            return context.proceed();
+        } finally {
+            readReplicaRouter.exitReadOnly();
+        }
+    }
+}
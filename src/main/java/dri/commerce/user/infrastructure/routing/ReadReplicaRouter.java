@@ -0,0 +1,260 @@
+package dri.commerce.user.infrastructure.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.Arc;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+/**
+ * Decide se uma leitura pode ir para a replica.
+ *
+ * A replica so e usada dentro de um use case marcado com @ReadOnly e quando:
+ * - nao ha transacao ativa (leituras dentro de escrita ficam no primario)
+ * - o atraso medido da replica esta abaixo de user.read-routing.max-lag
+ * - nem o usuario autenticado nem o usuario consultado foram escritos nos
+ *   ultimos user.read-routing.pin-after-write (read-your-writes)
+ *
+ * A fixacao por usuario e local a cada no. Entre nos ela viaja com o cliente no cookie
+ * read-primary-until (ReadYourWritesFilter); clientes sem cookies so tem read-your-writes
+ * no no que recebeu a escrita.
+ *
+ * O atraso e medido periodicamente na propria replica; se a medicao falhar,
+ * todas as leituras voltam para o primario ate a proxima medicao bem sucedida.
+ */
+@ApplicationScoped
+public class ReadReplicaRouter {
+
+    private static final Logger LOG = Logger.getLogger(ReadReplicaRouter.class);
+
+    private static final String REPLICA_LAG_QUERY = """
+            SELECT CASE WHEN pg_is_in_recovery()
+                THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                ELSE 0 END
+            """;
+
+    private static final String PRINCIPAL_PREFIX = "principal:";
+    private static final String USER_PREFIX = "user:";
+
+    @ConfigProperty(name = "user.read-routing.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.read-routing.pin-after-write", defaultValue = "5s")
+    Duration pinAfterWrite;
+
+    @ConfigProperty(name = "user.read-routing.max-lag", defaultValue = "2s")
+    Duration maxLag;
+
+    @Inject
+    @DataSource("replica")
+    AgroalDataSource replicaDataSource;
+
+    @Inject
+    Instance<SecurityIdentity> securityIdentity;
+
+    @Inject
+    ReadRoutingRequest readRoutingRequest;
+
+    @Inject
+    MeterRegistry registry;
+
+    /** Sem valor fora de use cases @ReadOnly: a entrada e removida ao sair do ultimo */
+    private final ThreadLocal<int[]> readOnlyDepth = new ThreadLocal<>();
+    private final ConcurrentMap<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    private volatile double replicaLagSeconds;
+    private volatile boolean replicaAvailable;
+
+    private Counter routedToReplica;
+    private Counter pinnedToPrimary;
+    private Counter laggingToPrimary;
+    private Counter transactionToPrimary;
+
+    @PostConstruct
+    void init() {
+        routedToReplica = routingCounter("replica", "read_only");
+        pinnedToPrimary = routingCounter("primary", "pinned");
+        laggingToPrimary = routingCounter("primary", "replica_lag");
+        transactionToPrimary = routingCounter("primary", "transaction");
+
+        Gauge.builder("user.datasource.replica.lag", this, router -> router.replicaLagSeconds)
+                .description("Atraso medido da replica de leitura")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("user.datasource.replica.available", this, router -> router.replicaAvailable ? 1 : 0)
+                .description("1 se a replica respondeu a ultima medicao de atraso")
+                .register(registry);
+        Gauge.builder("user.datasource.pinned", pinnedUntil, ConcurrentMap::size)
+                .description("Usuarios fixados no primario apos escrita")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (pinAfterWrite.compareTo(maxLag) <= 0) {
+            LOG.warnf("user.read-routing.pin-after-write (%s) should be greater than user.read-routing.max-lag (%s); "
+                    + "reads right after a write may hit a replica that has not caught up", pinAfterWrite, maxLag);
+        }
+        measureReplicaLag();
+    }
+
+    void enterReadOnly() {
+        int[] depth = readOnlyDepth.get();
+        if (depth == null) {
+            readOnlyDepth.set(new int[] {1});
+        } else {
+            depth[0]++;
+        }
+    }
+
+    void exitReadOnly() {
+        int[] depth = readOnlyDepth.get();
+        if (--depth[0] == 0) {
+            readOnlyDepth.remove();
+        }
+    }
+
+    /**
+     * @return true se a leitura atual pode ir para a replica
+     */
+    public boolean useReplica() {
+        return useReplica(null);
+    }
+
+    /**
+     * @param targetUserId Usuario consultado (pode ser null); leituras de um
+     *                     usuario escrito recentemente ficam no primario
+     * @return true se a leitura atual pode ir para a replica
+     */
+    public boolean useReplica(String targetUserId) {
+        if (!enabled) {
+            return false;
+        }
+        if (readOnlyDepth.get() == null) {
+            // get() sem valor grava uma entrada nula no mapa da thread
+            readOnlyDepth.remove();
+            return false;
+        }
+
+        if (QuarkusTransaction.isActive()) {
+            transactionToPrimary.increment();
+            return false;
+        }
+
+        String principal = currentPrincipal();
+        if ((principal != null && isPinned(PRINCIPAL_PREFIX + principal))
+                || (targetUserId != null && isPinned(USER_PREFIX + targetUserId))
+                || pinnedByClient()) {
+            pinnedToPrimary.increment();
+            return false;
+        }
+
+        if (!replicaAvailable || replicaLagSeconds > maxLag.toMillis() / 1000.0) {
+            laggingToPrimary.increment();
+            return false;
+        }
+
+        routedToReplica.increment();
+        return true;
+    }
+
+    /**
+     * Fixa no primario o usuario autenticado e o usuario escrito, para que leiam as proprias escritas
+     *
+     * @param writtenUserIds Usuarios alterados pela escrita
+     */
+    public void recordWrite(Iterable<String> writtenUserIds) {
+        if (!enabled) {
+            return;
+        }
+
+        long until = System.nanoTime() + pinAfterWrite.toNanos();
+        if (Arc.container().requestContext().isActive()) {
+            readRoutingRequest.recordWrite(System.currentTimeMillis() + pinAfterWrite.toMillis());
+        }
+        String principal = currentPrincipal();
+        if (principal != null) {
+            pinnedUntil.put(PRINCIPAL_PREFIX + principal, until);
+        }
+        for (String userId : writtenUserIds) {
+            pinnedUntil.put(USER_PREFIX + userId, until);
+        }
+    }
+
+    public void recordWrite(String writtenUserId) {
+        recordWrite(List.of(writtenUserId));
+    }
+
+    @Scheduled(every = "${user.read-routing.lag-check-interval:5s}", delayed = "${user.read-routing.lag-check-interval:5s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void measureReplicaLag() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_LAG_QUERY)) {
+            resultSet.next();
+            replicaLagSeconds = resultSet.getDouble(1);
+            if (!replicaAvailable) {
+                LOG.infof("Read replica available, lag %.3fs", replicaLagSeconds);
+            }
+            replicaAvailable = true;
+        } catch (Exception e) {
+            if (replicaAvailable) {
+                LOG.warnf("Read replica unavailable, routing reads to primary: %s", e.getMessage());
+            }
+            replicaAvailable = false;
+        }
+    }
+
+    private boolean isPinned(String key) {
+        Long until = pinnedUntil.get(key);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    private boolean pinnedByClient() {
+        return Arc.container().requestContext().isActive() && readRoutingRequest.pinnedByClient();
+    }
+
+    private String currentPrincipal() {
+        if (!Arc.container().requestContext().isActive()) {
+            return null;
+        }
+
+        SecurityIdentity identity = securityIdentity.get();
+        return identity.isAnonymous() ? null : identity.getPrincipal().getName();
+    }
+
+    private Counter routingCounter(String target, String reason) {
+        return Counter.builder("user.datasource.routing")
+                .description("Decisoes de roteamento de leituras @ReadOnly")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
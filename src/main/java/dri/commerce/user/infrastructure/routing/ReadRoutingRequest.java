@@ -0,0 +1,34 @@
+package dri.commerce.user.infrastructure.routing;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Fixacao no primario que viaja com o cliente (cookie de ReadYourWritesFilter), para que
+ * read-your-writes valha tambem quando a leitura seguinte cai em outro no.
+ * Horarios em epoch millis: o cookie e lido por qualquer no do cluster.
+ */
+@RequestScoped
+public class ReadRoutingRequest {
+
+    private long clientPinnedUntil;
+    private long writtenPinUntil;
+
+    public void clientPinnedUntil(long epochMillis) {
+        this.clientPinnedUntil = epochMillis;
+    }
+
+    /**
+     * @return Fim da fixacao gerada por escritas desta requisicao (0 se nao houve escrita)
+     */
+    public long writtenPinUntil() {
+        return writtenPinUntil;
+    }
+
+    boolean pinnedByClient() {
+        return clientPinnedUntil > System.currentTimeMillis();
+    }
+
+    void recordWrite(long epochMillis) {
+        writtenPinUntil = Math.max(writtenPinUntil, epochMillis);
+    }
+}
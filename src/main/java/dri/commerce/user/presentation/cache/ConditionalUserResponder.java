@@ -0,0 +1,147 @@
+package dri.commerce.user.presentation.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.application.usecase.FindUserByIdUseCase;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.presentation.fields.UserFieldSelection;
+import dri.commerce.user.presentation.fields.UserJsonWriter;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * GET condicional dos endpoints de usuario (If-None-Match / ETag).
+ * A versao e verificada do jeito mais barato disponivel, antes de qualquer serializacao:
+ * 1. resposta ja no cache de JSON: compara a ETag guardada junto com os bytes
+ * 2. senao, busca apenas updated_at (index-only scan); se bater responde 304
+ * 3. senao, monta a resposta completa pelo UserJsonCache
+ *
+ * Com fields= a representacao parcial nao passa pelo cache de JSON: e montada pelo
+ * UserJsonWriter e tem ETag propria por combinacao de campos.
+ */
+@ApplicationScoped
+public class ConditionalUserResponder {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    @Inject
+    UserJsonCache userJsonCache;
+
+    @Inject
+    FindUserByIdUseCase findUserByIdUseCase;
+
+    @Inject
+    UserJsonWriter userJsonWriter;
+
+    @Inject
+    @CacheName(UserCacheInvalidator.USER_DETAIL_CACHE)
+    Cache userDetailCache;
+
+    @Inject
+    @CacheName(UserCacheInvalidator.CURRENT_USER_CACHE)
+    Cache currentUserCache;
+
+    /**
+     * Resposta de GET /api/v1/users/{id}
+     */
+    public Uni<Response> userDetail(String id, String ifNoneMatch, UserFieldSelection selection) {
+        if (!selection.isAll()) {
+            return respondPartial(id, ifNoneMatch, selection);
+        }
+        return respond(id, ifNoneMatch, userDetailCache, userJsonCache::userDetail);
+    }
+
+    /**
+     * Resposta de GET /api/v1/auth/me
+     */
+    public Uni<Response> currentUser(String id, String ifNoneMatch, UserFieldSelection selection) {
+        if (selection.mask() != UserFieldSelection.ME.mask()) {
+            return respondPartial(id, ifNoneMatch, selection);
+        }
+        return respond(id, ifNoneMatch, currentUserCache, userJsonCache::currentUser);
+    }
+
+    private Uni<Response> respond(String id, String ifNoneMatch, Cache cache, Function<String, Uni<UserJson>> loader) {
+        if (ifNoneMatch == null) {
+            return loader.apply(id).map(json -> toResponse(json, null));
+        }
+
+        UserJson cached = cachedJson(cache, id);
+        if (cached != null) {
+            return Uni.createFrom().item(toResponse(cached, ifNoneMatch));
+        }
+
+        return findUserByIdUseCase.findVersionAsync(id)
+                .flatMap(version -> {
+                    if (version.isPresent()) {
+                        String etag = UserETag.of(id, version.get());
+                        if (UserETag.matches(ifNoneMatch, etag)) {
+                            return Uni.createFrom().item(notModified(etag));
+                        }
+                    }
+                    return loader.apply(id).map(json -> toResponse(json, ifNoneMatch));
+                });
+    }
+
+    private Uni<Response> respondPartial(String id, String ifNoneMatch, UserFieldSelection selection) {
+        Function<String, Uni<UserJson>> loader = userId -> findUserByIdUseCase.executeAsync(userId)
+                .map(user -> new UserJson(userJsonWriter.writeUser(user, selection), partialEtag(user, selection)));
+
+        if (ifNoneMatch == null) {
+            return loader.apply(id).map(json -> toResponse(json, null));
+        }
+
+        return findUserByIdUseCase.findVersionAsync(id)
+                .flatMap(version -> {
+                    if (version.isPresent()) {
+                        String etag = UserETag.of(id, version.get(), selection.mask());
+                        if (UserETag.matches(ifNoneMatch, etag)) {
+                            return Uni.createFrom().item(notModified(etag));
+                        }
+                    }
+                    return loader.apply(id).map(json -> toResponse(json, ifNoneMatch));
+                });
+    }
+
+    private static String partialEtag(UserDomain user, UserFieldSelection selection) {
+        return UserETag.of(user.id().value(), user.updatedAt() != null ? user.updatedAt() : user.createdAt(), selection.mask());
+    }
+
+    /**
+     * Entrada ja carregada no cache (sem disparar a busca em um miss)
+     */
+    private static UserJson cachedJson(Cache cache, String id) {
+        CompletableFuture<Object> entry = cache.as(CaffeineCache.class).getIfPresent(id);
+        if (entry == null || !entry.isDone() || entry.isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.getNow(null) instanceof UserJson json ? json : null;
+    }
+
+    private static Response toResponse(UserJson json, String ifNoneMatch) {
+        if (UserETag.matches(ifNoneMatch, json.etag())) {
+            return notModified(json.etag());
+        }
+
+        return Response.ok(json.body(), MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, json.etag())
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .build();
+    }
+
+    private static Response notModified(String etag) {
+        return Response.notModified()
+                .header(HttpHeaders.ETAG, etag)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package dri.commerce.user.presentation.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ETag forte de um usuario: ID + updatedAt (em microssegundos, a precisao do banco).
+ * Toda escrita altera updatedAt, entao a ETag muda sempre que a representacao muda.
+ */
+public final class UserETag {
+
+    private UserETag() {
+    }
+
+    public static String of(String id, LocalDateTime version) {
+        return "\"" + id + "-" + versionTag(version) + "\"";
+    }
+
+    /**
+     * ETag de uma representacao parcial (fields=): cada combinacao de campos tem sua propria ETag
+     */
+    public static String of(String id, LocalDateTime version, int fieldMask) {
+        return "\"" + id + "-" + versionTag(version) + "-f" + Integer.toString(fieldMask, 36) + "\"";
+    }
+
+    private static String versionTag(LocalDateTime version) {
+        long micros = version.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + version.getNano() / 1_000;
+        return Long.toString(micros, 36);
+    }
+
+    /**
+     * Comparacao fraca do If-None-Match (RFC 9110): aceita "*", listas e o prefixo W/
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        int start = 0;
+        while (start < ifNoneMatch.length()) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end < 0) {
+                end = ifNoneMatch.length();
+            }
+
+            String candidate = ifNoneMatch.substring(start, end).strip();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+}
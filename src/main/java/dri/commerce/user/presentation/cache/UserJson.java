@@ -0,0 +1,7 @@
+package dri.commerce.user.presentation.cache;
+
+/**
+ * Resposta JSON ja serializada com a ETag da versao do usuario que a gerou
+ */
+public record UserJson(byte[] body, String etag) {
+}
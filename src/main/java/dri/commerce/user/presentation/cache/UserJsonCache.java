@@ -0,0 +1,69 @@
+package dri.commerce.user.presentation.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dri.commerce.auth.presentation.dto.MeResponse;
+import dri.commerce.user.application.cache.UserCacheInvalidator;
+import dri.commerce.user.application.usecase.FindUserByIdUseCase;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.presentation.dto.response.UserResponse;
+import io.quarkus.cache.CacheResult;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Cache de respostas JSON ja serializadas, indexado pelo ID do usuario.
+ * Em um hit os bytes sao escritos direto na resposta, sem consultar o banco
+ * nem montar UserDomain/DTO. Excecoes (ex: usuario inexistente) nao sao cacheadas.
+ * Em um miss a busca e reativa; o cache guarda os bytes (com a ETag), nao o Uni.
+ */
+@ApplicationScoped
+public class UserJsonCache {
+
+    @Inject
+    FindUserByIdUseCase findUserByIdUseCase;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Corpo de GET /api/v1/users/{id}
+     */
+    @CacheResult(cacheName = UserCacheInvalidator.USER_DETAIL_CACHE)
+    public Uni<UserJson> userDetail(String id) {
+        return findUserByIdUseCase.executeAsync(id)
+                .map(user -> new UserJson(serialize(UserResponse.fromDomain(user)), etagOf(user)));
+    }
+
+    /**
+     * Corpo de GET /api/v1/auth/me
+     */
+    @CacheResult(cacheName = UserCacheInvalidator.CURRENT_USER_CACHE)
+    public Uni<UserJson> currentUser(String id) {
+        return findUserByIdUseCase.executeAsync(id)
+                .map(user -> new UserJson(toMeBody(user), etagOf(user)));
+    }
+
+    private byte[] toMeBody(UserDomain user) {
+        return serialize(new MeResponse(
+                user.id().value(),
+                user.name(),
+                user.email().value(),
+                user.role()
+        ));
+    }
+
+    private static String etagOf(UserDomain user) {
+        return UserETag.of(user.id().value(), user.updatedAt() != null ? user.updatedAt() : user.createdAt());
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize user response", e);
+        }
+    }
+}
@@ -1,31 +1,57 @@
 package dri.commerce.user.presentation.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
 import org.eclipse.microprofile.jwt.JsonWebToken;
 
 import dri.commerce.user.application.usecase.ActivateUserUseCase;
 import dri.commerce.user.application.usecase.AdminUpdateUserUseCase;
+import dri.commerce.user.application.usecase.BulkUpdateUsersUseCase;
 import dri.commerce.user.application.usecase.CreateUserUseCase;
+import dri.commerce.user.application.importer.ImportFormat;
 import dri.commerce.user.application.usecase.DeactivateUserUseCase;
-import dri.commerce.user.application.usecase.FindUserByIdUseCase;
+import dri.commerce.user.application.usecase.FindUsersByIdsUseCase;
+import dri.commerce.user.application.usecase.GetUserStatsUseCase;
+import dri.commerce.user.application.usecase.ImportUsersUseCase;
 import dri.commerce.user.application.usecase.ListAllUsersUseCase;
 import dri.commerce.user.application.usecase.UpdateUserUseCase;
+import dri.commerce.user.domain.entity.ImportJob;
 import dri.commerce.user.domain.entity.Page;
 import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.presentation.cache.ConditionalUserResponder;
 import dri.commerce.user.presentation.dto.request.AdminUpdateUserRequest;
+import dri.commerce.user.presentation.dto.request.BatchGetUsersRequest;
+import dri.commerce.user.presentation.dto.request.BulkUserOperationRequest;
 import dri.commerce.user.presentation.dto.request.CreateUserRequest;
 import dri.commerce.user.presentation.dto.request.UpdateUserRequest;
+import dri.commerce.user.presentation.dto.response.BulkUserOperationResponse;
+import dri.commerce.user.presentation.dto.response.ImportJobResponse;
 import dri.commerce.user.presentation.dto.response.MessageResponse;
+import dri.commerce.user.presentation.dto.response.PublicUserResponse;
+import dri.commerce.user.presentation.dto.response.UserBatchResponse;
 import dri.commerce.user.presentation.dto.response.UserListResponse;
 import dri.commerce.user.presentation.dto.response.UserResponse;
+import dri.commerce.user.presentation.dto.response.UserStatsResponse;
+import dri.commerce.user.presentation.fields.UserFieldSelection;
+import dri.commerce.user.presentation.fields.UserJsonWriter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
@@ -33,6 +59,7 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
@@ -51,9 +78,6 @@ public class UserController {
     @Inject
     DeactivateUserUseCase deleteUserUseCase;
 
-    @Inject
-    FindUserByIdUseCase findUserByIdUseCase;
-
     @Inject
     ListAllUsersUseCase listAllUsersUseCase;
 
@@ -63,6 +87,24 @@ public class UserController {
     @Inject
     AdminUpdateUserUseCase adminUpdateUserUseCase;
 
+    @Inject
+    BulkUpdateUsersUseCase bulkUpdateUsersUseCase;
+
+    @Inject
+    ImportUsersUseCase importUsersUseCase;
+
+    @Inject
+    GetUserStatsUseCase getUserStatsUseCase;
+
+    @Inject
+    FindUsersByIdsUseCase findUsersByIdsUseCase;
+
+    @Inject
+    UserJsonWriter userJsonWriter;
+
+    @Inject
+    ConditionalUserResponder conditionalUserResponder;
+
     @Inject
     JsonWebToken jwt;
 
@@ -77,6 +119,7 @@ public class UserController {
      * Qualquer pessoa pode se registrar como CUSTOMER ou SELLER
      * Bloqueio: Não permite criação de ADMIN via endpoint público
      */
+    @RunOnVirtualThread
     @POST
     @PermitAll
     public Response createUser(@Valid CreateUserRequest request) {
@@ -104,6 +147,7 @@ public class UserController {
      * 
      * Acesso: Apenas ADMIN
      */
+    @RunOnVirtualThread
     @POST
     @Path("/admin")
     @RolesAllowed({"ADMIN"})
@@ -130,11 +174,20 @@ public class UserController {
      * Acesso:
      * - ADMIN: pode ver qualquer usuario
      * - CUSTOMER/SELLER: pode ver apenas seus proprios dados
+     *
+     * A resposta vem do cache de JSON serializado (invalidado pelos use cases de escrita);
+     * em um miss a busca e reativa e o endpoint roda no event loop.
+     * Com If-None-Match igual a ETag atual responde 304 sem corpo.
+     * fields= (ex: fields=id,name) limita os campos da resposta
      */
     @GET
     @Path("/{id}")
     @RolesAllowed({"ADMIN", "CUSTOMER", "SELLER"})
-    public Response getUserById(@PathParam("id") String id) {
+    public Uni<Response> getUserById(
+            @PathParam("id") String id,
+            @QueryParam("fields") String fields,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
+    ) {
         String currentUserId = jwt.getSubject();
         boolean isAdmin = securityContext.isUserInRole("ADMIN");
         
@@ -142,11 +195,8 @@ public class UserController {
             throw new ForbiddenException("Voce nao tem permissao para acessar dados de outro usuario");
         }
 
-        UserDomain user = findUserByIdUseCase.execute(id);
-
-        UserResponse response = UserResponse.fromDomain(user);
-
-        return Response.ok(response).build();
+        UserFieldSelection selection = UserFieldSelection.parse(fields, UserFieldSelection.ALL);
+        return conditionalUserResponder.userDetail(id, ifNoneMatch, selection);
     }
 
     /**
@@ -154,13 +204,22 @@ public class UserController {
      * GET /api/v1/users?page=1&pageSize=10
      * 
      * Acesso: Apenas ADMIN
+     * fields= (ex: fields=id,name) limita os campos da resposta e as colunas lidas do banco
      */
+    @RunOnVirtualThread
     @GET
     @RolesAllowed({"ADMIN"})
     public Response listUsers(
             @QueryParam("page") @DefaultValue("1") int page,
-            @QueryParam("pageSize") @DefaultValue("10") int pageSize
+            @QueryParam("pageSize") @DefaultValue("10") int pageSize,
+            @QueryParam("fields") String fields
     ) {
+        UserFieldSelection selection = UserFieldSelection.parse(fields, UserFieldSelection.ALL);
+        if (!selection.isAll()) {
+            Page<UserView> partialPage = listAllUsersUseCase.execute(page, pageSize, selection.attributes());
+            return Response.ok(userJsonWriter.writePage(partialPage, selection), MediaType.APPLICATION_JSON).build();
+        }
+
         Page<UserDomain> userPage = listAllUsersUseCase.execute(page, pageSize);
 
         Page<UserResponse> responsePage = Page.of(
@@ -177,6 +236,46 @@ public class UserController {
         return Response.ok(response).build();
     }
 
+    /**
+     * Busca varios usuarios em uma unica consulta
+     * POST /api/v1/users/batch
+     * 
+     * Acesso:
+     * - ADMIN: dados completos
+     * - CUSTOMER/SELLER: apenas id, nome e role
+     * Ate 500 IDs; a resposta segue a ordem dos IDs e lista os nao encontrados em missing
+     */
+    @RunOnVirtualThread
+    @POST
+    @Path("/batch")
+    @RolesAllowed({"ADMIN", "CUSTOMER", "SELLER"})
+    public Response batchGetUsers(@Valid BatchGetUsersRequest request) {
+        FindUsersByIdsUseCase.BatchResult result = findUsersByIdsUseCase.execute(request.ids());
+
+        UserBatchResponse response = securityContext.isUserInRole("ADMIN")
+                ? UserBatchResponse.fromResult(result, UserResponse::fromDomain)
+                : UserBatchResponse.fromResult(result, PublicUserResponse::fromDomain);
+
+        return Response.ok(response).build();
+    }
+
+    /**
+     * Totais de usuarios por papel, status e dia de cadastro
+     * GET /api/v1/users/stats
+     * 
+     * Acesso: Apenas ADMIN
+     * Servido do retrato em memoria dos contadores (atualizado a cada user.stats.refresh-interval)
+     */
+    @RunOnVirtualThread
+    @GET
+    @Path("/stats")
+    @RolesAllowed({"ADMIN"})
+    public Response getUserStats() {
+        UserStatsResponse response = UserStatsResponse.fromDomain(getUserStatsUseCase.execute());
+
+        return Response.ok(response).build();
+    }
+
     /**
      * Atualiza dados do usuario
      * PUT /api/v1/users/{id}
@@ -185,6 +284,7 @@ public class UserController {
      * - ADMIN: pode atualizar qualquer usuario
      * - CUSTOMER/SELLER: pode atualizar apenas seus proprios dados
      */
+    @RunOnVirtualThread
     @PUT
     @Path("/{id}")
     @RolesAllowed({"ADMIN", "CUSTOMER", "SELLER"})
@@ -218,6 +318,7 @@ public class UserController {
      * Acesso: Apenas ADMIN
      * Nota: Nao deleta fisicamente, apenas marca como inativo
      */
+    @RunOnVirtualThread
     @DELETE
     @Path("/{id}")
     @RolesAllowed({"ADMIN"})
@@ -235,6 +336,7 @@ public class UserController {
      * 
      * Acesso: Apenas ADMIN
      */
+    @RunOnVirtualThread
     @POST
     @Path("/{id}/activate")
     @RolesAllowed({"ADMIN"})
@@ -253,6 +355,7 @@ public class UserController {
      * Acesso: Apenas ADMIN
      * Permite alterar nome, email, role e status sem modificar senha
      */
+    @RunOnVirtualThread
     @PUT
     @Path("/{id}/admin")
     @RolesAllowed({"ADMIN"})
@@ -272,4 +375,82 @@ public class UserController {
 
         return Response.ok(response).build();
     }
+
+    /**
+     * Ativa, desativa ou altera o role de varios usuarios de uma vez
+     * POST /api/v1/users/bulk
+     * 
+     * Acesso: Apenas ADMIN
+     * Processa ate 10000 IDs em lotes transacionais e retorna o resultado por ID
+     */
+    @RunOnVirtualThread
+    @POST
+    @Path("/bulk")
+    @RolesAllowed({"ADMIN"})
+    public Response bulkUpdateUsers(@Valid BulkUserOperationRequest request) {
+        BulkUpdateUsersUseCase.BulkResult result = bulkUpdateUsersUseCase.execute(
+                request.ids(),
+                request.operation(),
+                request.role()
+        );
+
+        BulkUserOperationResponse response = BulkUserOperationResponse.fromResult(result);
+
+        return Response.ok(response).build();
+    }
+
+    /**
+     * Importa usuarios em massa a partir de CSV ou NDJSON
+     * POST /api/v1/users/import?jobId={jobId}
+     * 
+     * Acesso: Apenas ADMIN
+     * Content-Type: text/csv (com cabecalho name,email,password[,role]) ou application/x-ndjson
+     * O arquivo e gravado em disco e importado em segundo plano: responde 202 com o job
+     * (Location: GET /api/v1/users/import/{jobId} para acompanhar o progresso).
+     * Para retomar uma importacao interrompida, reenvie o mesmo arquivo com o jobId
+     * (409 se o job ainda estiver em execucao). source tem no maximo 255 caracteres (400)
+     */
+    @RunOnVirtualThread
+    @POST
+    @Path("/import")
+    @RolesAllowed({"ADMIN"})
+    @Consumes({"text/csv", "application/x-ndjson"})
+    public Response importUsers(
+            InputStream body,
+            @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+            @QueryParam("jobId") String jobId,
+            @QueryParam("source") @DefaultValue("api") @Size(max = 255) String source
+    ) throws IOException {
+        ImportFormat format = ImportFormat.fromMediaType(contentType);
+
+        java.nio.file.Path file = Files.createTempFile("user-import-", ".upload");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        ImportJob job = importUsersUseCase.submit(file, format, source, jobId);
+
+        return Response.accepted(ImportJobResponse.fromDomain(job))
+                .location(URI.create("/api/v1/users/import/" + job.id()))
+                .build();
+    }
+
+    /**
+     * Consulta o progresso de uma importacao
+     * GET /api/v1/users/import/{jobId}
+     * 
+     * Acesso: Apenas ADMIN
+     */
+    @RunOnVirtualThread
+    @GET
+    @Path("/import/{jobId}")
+    @RolesAllowed({"ADMIN"})
+    public Response getImportJob(@PathParam("jobId") String jobId) {
+        ImportJobResponse response = ImportJobResponse.fromDomain(importUsersUseCase.findJob(jobId));
+
+        return Response.ok(response).build();
+    }
 }
\ No newline at end of file
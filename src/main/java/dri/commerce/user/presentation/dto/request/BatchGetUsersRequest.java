@@ -0,0 +1,15 @@
+package dri.commerce.user.presentation.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BatchGetUsersRequest(
+
+        @NotEmpty(message = "At least one id is required")
+        @Size(max = 500, message = "At most 500 ids per request")
+        List<@NotBlank(message = "Id cannot be blank") String> ids
+) {
+}
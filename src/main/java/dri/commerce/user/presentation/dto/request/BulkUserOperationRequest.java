@@ -0,0 +1,29 @@
+package dri.commerce.user.presentation.dto.request;
+
+import java.util.List;
+
+import dri.commerce.user.domain.enums.BulkUserOperation;
+import dri.commerce.user.domain.enums.Role;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkUserOperationRequest(
+
+        @NotEmpty(message = "At least one id is required")
+        @Size(max = 10000, message = "At most 10000 ids per request")
+        List<@NotBlank(message = "Id cannot be blank") String> ids,
+
+        @NotNull(message = "Operation is required")
+        BulkUserOperation operation,
+
+        Role role
+) {
+
+    @AssertTrue(message = "Role is required for CHANGE_ROLE")
+    public boolean isRoleProvidedWhenRequired() {
+        return operation != BulkUserOperation.CHANGE_ROLE || role != null;
+    }
+}
@@ -0,0 +1,33 @@
+package dri.commerce.user.presentation.dto.response;
+
+import java.util.List;
+
+import dri.commerce.user.application.usecase.BulkUpdateUsersUseCase.BulkResult;
+import dri.commerce.user.application.usecase.BulkUpdateUsersUseCase.ItemResult;
+import dri.commerce.user.application.usecase.BulkUpdateUsersUseCase.ItemStatus;
+import dri.commerce.user.domain.enums.BulkUserOperation;
+
+public record BulkUserOperationResponse(
+        BulkUserOperation operation,
+        int requested,
+        long updated,
+        long unchanged,
+        long notFound,
+        long invalid,
+        long emailConflicts,
+        List<ItemResult> results
+) {
+
+    public static BulkUserOperationResponse fromResult(BulkResult result) {
+        return new BulkUserOperationResponse(
+                result.operation(),
+                result.results().size(),
+                result.count(ItemStatus.UPDATED),
+                result.count(ItemStatus.UNCHANGED),
+                result.count(ItemStatus.NOT_FOUND),
+                result.count(ItemStatus.INVALID_ID),
+                result.count(ItemStatus.EMAIL_CONFLICT),
+                result.results()
+        );
+    }
+}
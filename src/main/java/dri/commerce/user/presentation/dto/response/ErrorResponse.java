@@ -1,33 +0,0 @@
-package dri.commerce.user.presentation.dto.response;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-public record ErrorResponse(
-        int status,
-        String error,
-        String message,
-        List<String> details,
-        LocalDateTime timestamp
-) {
-
-    public static ErrorResponse of(int status, String error, String message) {
-        return new ErrorResponse(
-                status,
-                error,
-                message,
-                List.of(),
-                LocalDateTime.now()
-        );
-    }
-
-    public static ErrorResponse of(int status, String error, String message, List<String> details) {
-        return new ErrorResponse(
-                status,
-                error,
-                message,
-                details,
-                LocalDateTime.now()
-        );
-    }
-}
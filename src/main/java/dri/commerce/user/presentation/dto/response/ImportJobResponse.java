@@ -0,0 +1,33 @@
+package dri.commerce.user.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+import dri.commerce.user.domain.entity.ImportJob;
+import dri.commerce.user.domain.enums.ImportJobStatus;
+
+public record ImportJobResponse(
+        String id,
+        String source,
+        ImportJobStatus status,
+        long lastLine,
+        long imported,
+        long duplicates,
+        long failed,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ImportJobResponse fromDomain(ImportJob job) {
+        return new ImportJobResponse(
+                job.id(),
+                job.source(),
+                job.status(),
+                job.lastLine(),
+                job.imported(),
+                job.duplicates(),
+                job.failed(),
+                job.createdAt(),
+                job.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package dri.commerce.user.presentation.dto.response;
+
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.enums.Role;
+
+/**
+ * Dados de um usuario visiveis para outros usuarios (sem email, datas ou status)
+ */
+public record PublicUserResponse(
+        String id,
+        String name,
+        Role role
+) {
+
+    public static PublicUserResponse fromDomain(UserDomain user) {
+        return new PublicUserResponse(
+                user.id().value(),
+                user.name(),
+                user.role()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package dri.commerce.user.presentation.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import dri.commerce.user.application.usecase.FindUsersByIdsUseCase.BatchResult;
+import dri.commerce.user.domain.entity.UserDomain;
+
+/**
+ * Resposta da busca em lote: UserResponse para ADMIN, PublicUserResponse para os demais
+ */
+public record UserBatchResponse(
+        int requested,
+        List<?> users,
+        List<String> missing
+) {
+
+    public static UserBatchResponse fromResult(BatchResult result, Function<UserDomain, ?> mapper) {
+        return new UserBatchResponse(
+                result.users().size() + result.missing().size(),
+                result.users().stream().map(mapper).toList(),
+                result.missing()
+        );
+    }
+}
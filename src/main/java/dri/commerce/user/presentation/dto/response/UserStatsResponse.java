@@ -0,0 +1,30 @@
+package dri.commerce.user.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+
+import dri.commerce.user.domain.entity.UserStats;
+import dri.commerce.user.domain.enums.Role;
+
+public record UserStatsResponse(
+        long total,
+        long active,
+        long inactive,
+        Map<Role, Long> byRole,
+        SortedMap<LocalDate, Long> signupsByDay,
+        LocalDateTime refreshedAt
+) {
+
+    public static UserStatsResponse fromDomain(UserStats stats) {
+        return new UserStatsResponse(
+                stats.total(),
+                stats.active(),
+                stats.inactive(),
+                stats.byRole(),
+                stats.signupsByDay(),
+                stats.refreshedAt()
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package dri.commerce.user.presentation.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dri.commerce.auth.domain.exception.RateLimitExceededException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Monta os corpos de erro (ErrorBody). Erros com mensagem fixa sao serializados
+ * uma unica vez e reaproveitados; o cache e limitado para que mensagens com dados
+ * variaveis nao o facam crescer sem controle.
+ */
+@ApplicationScoped
+public class ErrorBodies {
+
+    private static final int MAX_CACHED = 256;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<CacheKey, ErrorBody> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, ErrorBody> tooManyRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Corpo reaproveitado entre respostas; usar apenas com mensagens de conjunto limitado
+     */
+    public ErrorBody cached(int status, String error, String message) {
+        CacheKey key = new CacheKey(status, message);
+        ErrorBody body = cache.get(key);
+        if (body != null) {
+            return body;
+        }
+
+        body = of(status, error, message, List.of());
+        if (cache.size() < MAX_CACHED) {
+            cache.putIfAbsent(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Corpo do 429, reaproveitado por combinacao de tentativas restantes e minutos ate liberar
+     */
+    public ErrorBody tooManyRequests(int remainingAttempts, long minutesUntilReset) {
+        long key = (minutesUntilReset << 32) | (remainingAttempts & 0xFFFF_FFFFL);
+        ErrorBody body = tooManyRequests.get(key);
+        if (body != null) {
+            return body;
+        }
+
+        body = of(
+            429,
+            "Too Many Requests",
+            RateLimitExceededException.messageFor(minutesUntilReset),
+            List.of(
+                String.format("Tentativas restantes: %d", remainingAttempts),
+                String.format("Tente novamente em: %d minutos", minutesUntilReset)
+            )
+        );
+        if (tooManyRequests.size() < MAX_CACHED) {
+            tooManyRequests.putIfAbsent(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Corpo sem cache (mensagens com IDs, detalhes de validacao etc.)
+     */
+    public ErrorBody of(int status, String error, String message, List<String> details) {
+        try {
+            String prefix = "{\"status\":" + status
+                    + ",\"error\":" + objectMapper.writeValueAsString(error)
+                    + ",\"message\":" + objectMapper.writeValueAsString(message)
+                    + ",\"details\":" + objectMapper.writeValueAsString(details)
+                    + ",\"timestamp\":\"";
+            return new ErrorBody(status, message, prefix.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize error response", e);
+        }
+    }
+
+    private record CacheKey(int status, String message) {
+    }
+}
@@ -0,0 +1,9 @@
+package dri.commerce.user.presentation.exception;
+
+/**
+ * Corpo de erro pre-serializado ({status, error, message, details, timestamp}): tudo ate o
+ * campo timestamp fica pronto em bytes e apenas o timestamp e escrito por resposta
+ * (ErrorBodyWriter)
+ */
+public record ErrorBody(int status, String message, byte[] prefix) {
+}
@@ -0,0 +1,39 @@
+package dri.commerce.user.presentation.exception;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Escreve um ErrorBody: bytes prontos + timestamp atual (mesmo formato ISO do Jackson)
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class ErrorBodyWriter implements MessageBodyWriter<ErrorBody> {
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == ErrorBody.class;
+    }
+
+    @Override
+    public void writeTo(ErrorBody body, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        entityStream.write(body.prefix());
+        entityStream.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII));
+        entityStream.write(SUFFIX);
+    }
+}
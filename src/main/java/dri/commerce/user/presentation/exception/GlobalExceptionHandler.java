@@ -5,12 +5,17 @@ import java.util.List;
 import dri.commerce.auth.domain.exception.InvalidCredentialsException;
 import dri.commerce.auth.domain.exception.InvalidTokenException;
 import dri.commerce.auth.domain.exception.RateLimitExceededException;
+import dri.commerce.config.DatabaseBusyException;
 import dri.commerce.user.domain.exception.EmailAlreadyExistsException;
+import dri.commerce.user.domain.exception.ImportJobAlreadyRunningException;
+import dri.commerce.user.domain.exception.ImportJobNotFoundException;
 import dri.commerce.user.domain.exception.UserNotFoundException;
 import dri.commerce.user.domain.exception.WeakPasswordException;
-import dri.commerce.user.presentation.dto.response.ErrorResponse;
+import jakarta.inject.Inject;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
@@ -18,57 +23,52 @@ import jakarta.ws.rs.ext.Provider;
 @Provider
 public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
 
+    @Inject
+    ErrorBodies errorBodies;
+
     @Override
     public Response toResponse(Exception exception) {
         return switch (exception) {
             case UserNotFoundException ex -> handleNotFound(ex);
+            case ImportJobNotFoundException ex -> handleNotFound(ex);
             case EmailAlreadyExistsException ex -> handleConflict(ex);
+            case ImportJobAlreadyRunningException ex -> handleConflict(ex);
             case WeakPasswordException ex -> handleBadRequest(ex);
             case InvalidCredentialsException ex -> handleUnauthorized(ex);
             case InvalidTokenException ex -> handleForbidden(ex);
             case RateLimitExceededException ex -> handleTooManyRequests(ex);
             case ConstraintViolationException ex -> handleValidation(ex);
+            case BadRequestException ex -> handleInvalidRequest(ex);
+            case DatabaseBusyException ex -> handleServiceUnavailable(ex);
             default -> handleGenericError(exception);
         };
     }
 
-    private Response handleNotFound(UserNotFoundException ex) {
-        ErrorResponse error = ErrorResponse.of(404, "Not Found", ex.getMessage());
-        return Response.status(404).entity(error).build();
+    private Response handleNotFound(RuntimeException ex) {
+        return respond(errorBodies.of(404, "Not Found", ex.getMessage(), List.of()));
     }
 
-    private Response handleConflict(EmailAlreadyExistsException ex) {
-        ErrorResponse error = ErrorResponse.of(409, "Conflict", ex.getMessage());
-        return Response.status(409).entity(error).build();
+    private Response handleConflict(RuntimeException ex) {
+        return respond(errorBodies.of(409, "Conflict", ex.getMessage(), List.of()));
     }
 
     private Response handleBadRequest(WeakPasswordException ex) {
-        ErrorResponse error = ErrorResponse.of(400, "Bad Request", ex.getMessage());
-        return Response.status(400).entity(error).build();
+        return respond(errorBodies.cached(400, "Bad Request", ex.getMessage()));
     }
 
     private Response handleUnauthorized(InvalidCredentialsException ex) {
-        ErrorResponse error = ErrorResponse.of(401, "Unauthorized", ex.getMessage());
-        return Response.status(401).entity(error).build();
+        return respond(errorBodies.cached(401, "Unauthorized", ex.getMessage()));
     }
 
     private Response handleForbidden(InvalidTokenException ex) {
-        ErrorResponse error = ErrorResponse.of(403, "Forbidden", ex.getMessage());
-        return Response.status(403).entity(error).build();
+        return respond(errorBodies.cached(403, "Forbidden", ex.getMessage()));
     }
 
     private Response handleTooManyRequests(RateLimitExceededException ex) {
-        ErrorResponse error = ErrorResponse.of(
-            429, 
-            "Too Many Requests", 
-            ex.getMessage(),
-            List.of(
-                String.format("Tentativas restantes: %d", ex.getRemainingAttempts()),
-                String.format("Tente novamente em: %d minutos", ex.getMinutesUntilReset())
-            )
-        );
+        ErrorBody error = errorBodies.tooManyRequests(ex.getRemainingAttempts(), ex.getMinutesUntilReset());
         return Response.status(429)
                 .header("Retry-After", ex.getMinutesUntilReset() * 60) // em segundos
+                .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(error)
                 .build();
     }
@@ -79,12 +79,29 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
                 .map(ConstraintViolation::getMessage)
                 .toList();
 
-        ErrorResponse error = ErrorResponse.of(400, "Validation Error", "Invalid request data", errors);
-        return Response.status(400).entity(error).build();
+        return respond(errorBodies.of(400, "Validation Error", "Invalid request data", errors));
+    }
+
+    private Response handleInvalidRequest(BadRequestException ex) {
+        return respond(errorBodies.of(400, "Bad Request", ex.getMessage(), List.of()));
+    }
+
+    private Response handleServiceUnavailable(DatabaseBusyException ex) {
+        return Response.status(503)
+                .header("Retry-After", 1)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(errorBodies.cached(503, "Service Unavailable", ex.getMessage()))
+                .build();
     }
 
     private Response handleGenericError(Exception ex) {
-        ErrorResponse error = ErrorResponse.of(500, "Internal Server Error", "An unexpected error occurred", List.of(ex.getMessage()));
-        return Response.status(500).entity(error).build();
+        return respond(errorBodies.of(500, "Internal Server Error", "An unexpected error occurred", List.of(String.valueOf(ex.getMessage()))));
+    }
+
+    private static Response respond(ErrorBody error) {
+        return Response.status(error.status())
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(error)
+                .build();
     }
-}
\ No newline at end of file
+}
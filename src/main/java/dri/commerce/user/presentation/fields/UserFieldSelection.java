@@ -0,0 +1,105 @@
+package dri.commerce.user.presentation.fields;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import dri.commerce.user.domain.enums.UserAttribute;
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Campos pedidos via fields= (ex: fields=id,name), como mascara de bits de UserAttribute.
+ * A mascara indexa os writers compilados (UserJsonWriter) e as consultas por projecao.
+ */
+public record UserFieldSelection(int mask) {
+
+    public static final UserFieldSelection ALL = new UserFieldSelection((1 << UserAttribute.values().length) - 1);
+
+    /** Campos de GET /api/v1/auth/me (MeResponse) */
+    public static final UserFieldSelection ME = of(UserAttribute.ID, UserAttribute.NAME, UserAttribute.EMAIL, UserAttribute.ROLE);
+
+    public static UserFieldSelection of(UserAttribute... attributes) {
+        int mask = 0;
+        for (UserAttribute attribute : attributes) {
+            mask |= bit(attribute);
+        }
+        return new UserFieldSelection(mask);
+    }
+
+    /**
+     * @param fields Valor de fields= (null ou vazio seleciona todos os campos permitidos)
+     * @param allowed Campos que o endpoint expoe
+     * @throws BadRequestException se algum campo for desconhecido ou nao permitido
+     */
+    public static UserFieldSelection parse(String fields, UserFieldSelection allowed) {
+        if (fields == null || fields.isBlank()) {
+            return allowed;
+        }
+
+        int mask = 0;
+        int start = 0;
+        while (start <= fields.length()) {
+            int end = fields.indexOf(',', start);
+            if (end < 0) {
+                end = fields.length();
+            }
+
+            String name = fields.substring(start, end).strip();
+            if (!name.isEmpty()) {
+                UserAttribute attribute = attributeOf(name);
+                if (attribute == null || !allowed.contains(attribute)) {
+                    throw new BadRequestException("Unknown field: " + name);
+                }
+                mask |= bit(attribute);
+            }
+            start = end + 1;
+        }
+
+        return mask == 0 ? allowed : new UserFieldSelection(mask);
+    }
+
+    public boolean contains(UserAttribute attribute) {
+        return (mask & bit(attribute)) != 0;
+    }
+
+    public boolean isAll() {
+        return mask == ALL.mask;
+    }
+
+    public Set<UserAttribute> attributes() {
+        Set<UserAttribute> attributes = EnumSet.noneOf(UserAttribute.class);
+        for (UserAttribute attribute : UserAttribute.values()) {
+            if (contains(attribute)) {
+                attributes.add(attribute);
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Nome do campo no JSON (mesmo de UserResponse)
+     */
+    static String jsonName(UserAttribute attribute) {
+        return switch (attribute) {
+            case ID -> "id";
+            case NAME -> "name";
+            case EMAIL -> "email";
+            case ROLE -> "role";
+            case CREATED_AT -> "createdAt";
+            case UPDATED_AT -> "updatedAt";
+            case ACTIVE -> "active";
+        };
+    }
+
+    private static UserAttribute attributeOf(String jsonName) {
+        for (UserAttribute attribute : UserAttribute.values()) {
+            if (jsonName(attribute).equals(jsonName)) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    private static int bit(UserAttribute attribute) {
+        return 1 << attribute.ordinal();
+    }
+}
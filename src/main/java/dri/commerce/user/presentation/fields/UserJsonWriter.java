@@ -0,0 +1,129 @@
+package dri.commerce.user.presentation.fields;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dri.commerce.user.domain.entity.Page;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserView;
+import dri.commerce.user.domain.enums.UserAttribute;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Serializa usuarios com apenas os campos selecionados (fields=), no mesmo formato de
+ * UserResponse/UserListResponse. O writer de cada combinacao de campos e montado uma
+ * vez e reaproveitado: por requisicao nao ha reflexao, apenas chamadas ao JsonGenerator.
+ */
+@ApplicationScoped
+public class UserJsonWriter {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private AtomicReferenceArray<FieldWriter[]> compiled;
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(JsonGenerator generator, UserView user) throws IOException;
+    }
+
+    @PostConstruct
+    void init() {
+        compiled = new AtomicReferenceArray<>(UserFieldSelection.ALL.mask() + 1);
+    }
+
+    public byte[] writeUser(UserDomain user, UserFieldSelection selection) {
+        FieldWriter[] writers = writersFor(selection);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            writeObject(generator, UserView.of(user), writers);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize user response", e);
+        }
+        return output.toByteArray();
+    }
+
+    public byte[] writePage(Page<UserView> page, UserFieldSelection selection) {
+        FieldWriter[] writers = writersFor(selection);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(128 + page.content().size() * 64 * writers.length);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("users");
+            for (UserView user : page.content()) {
+                writeObject(generator, user, writers);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("total", page.total());
+            generator.writeNumberField("page", page.page());
+            generator.writeNumberField("pageSize", page.pageSize());
+            generator.writeNumberField("totalPages", page.totalPages());
+            generator.writeBooleanField("hasNext", page.hasNext());
+            generator.writeBooleanField("hasPrevious", page.hasPrevious());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize user list response", e);
+        }
+        return output.toByteArray();
+    }
+
+    private static void writeObject(JsonGenerator generator, UserView user, FieldWriter[] writers) throws IOException {
+        generator.writeStartObject();
+        for (FieldWriter writer : writers) {
+            writer.write(generator, user);
+        }
+        generator.writeEndObject();
+    }
+
+    private FieldWriter[] writersFor(UserFieldSelection selection) {
+        FieldWriter[] writers = compiled.get(selection.mask());
+        if (writers == null) {
+            writers = compile(selection);
+            compiled.compareAndSet(selection.mask(), null, writers);
+        }
+        return writers;
+    }
+
+    private static FieldWriter[] compile(UserFieldSelection selection) {
+        List<FieldWriter> writers = new ArrayList<>();
+        for (UserAttribute attribute : UserAttribute.values()) {
+            if (selection.contains(attribute)) {
+                writers.add(writerFor(attribute));
+            }
+        }
+        return writers.toArray(FieldWriter[]::new);
+    }
+
+    private static FieldWriter writerFor(UserAttribute attribute) {
+        String name = UserFieldSelection.jsonName(attribute);
+        return switch (attribute) {
+            case ID -> (generator, user) -> generator.writeStringField(name, user.id());
+            case NAME -> (generator, user) -> generator.writeStringField(name, user.name());
+            case EMAIL -> (generator, user) -> generator.writeStringField(name, user.email());
+            case ROLE -> (generator, user) -> generator.writeStringField(name, user.role().name());
+            case CREATED_AT -> (generator, user) -> writeDateTime(generator, name, user.createdAt());
+            case UPDATED_AT -> (generator, user) -> writeDateTime(generator, name, user.updatedAt());
+            case ACTIVE -> (generator, user) -> generator.writeBooleanField(name, Boolean.TRUE.equals(user.active()));
+        };
+    }
+
+    private static void writeDateTime(JsonGenerator generator, String name, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
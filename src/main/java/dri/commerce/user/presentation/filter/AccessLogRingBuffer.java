@@ -0,0 +1,114 @@
+package dri.commerce.user.presentation.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Fila circular limitada, sem locks, com varios produtores (threads de requisicao)
+ * e um unico consumidor (AccessLogWriter). Os eventos sao pre-alocados e reutilizados.
+ *
+ * Cada posicao tem um numero de sequencia: igual a posicao quando livre para o
+ * produtor, posicao + 1 quando preenchida e pronta para o consumidor.
+ * Com a fila cheia o evento e descartado: a requisicao nunca espera pelo log.
+ */
+final class AccessLogRingBuffer {
+
+    private final AccessLogEvent[] events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Acessado apenas pela thread consumidora */
+    private long head;
+
+    AccessLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        events = new AccessLogEvent[capacity];
+        sequences = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new AccessLogEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return false se a fila estiver cheia (evento descartado)
+     */
+    boolean offer(long timestampMillis, String method, String path, int status, long durationNanos, String error) {
+        long position;
+        int index;
+
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+
+        AccessLogEvent event = events[index];
+        event.timestampMillis = timestampMillis;
+        event.method = method;
+        event.path = path;
+        event.status = status;
+        event.durationNanos = durationNanos;
+        event.error = error;
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Entrega ao consumidor os eventos prontos, em ordem; so pode ser chamado por uma thread.
+     * Se o consumidor lancar excecao, o evento e descartado e a posicao liberada mesmo assim:
+     * a excecao propaga, e a proxima chamada continua do evento seguinte
+     *
+     * @return Quantidade de eventos drenados
+     */
+    int drain(Consumer<AccessLogEvent> consumer) {
+        int drained = 0;
+
+        while (true) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                return drained;
+            }
+
+            AccessLogEvent event = events[index];
+            try {
+                consumer.accept(event);
+            } finally {
+                event.path = null;
+                event.error = null;
+
+                sequences.setRelease(index, head + events.length);
+                head++;
+            }
+            drained++;
+        }
+    }
+
+    int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Evento de acesso com tamanho fixo; os campos sao sobrescritos a cada volta da fila
+     */
+    static final class AccessLogEvent {
+        long timestampMillis;
+        String method;
+        String path;
+        int status;
+        long durationNanos;
+        String error;
+    }
+}
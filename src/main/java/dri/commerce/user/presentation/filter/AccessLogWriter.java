@@ -0,0 +1,183 @@
+package dri.commerce.user.presentation.filter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Log de acesso assincrono: as requisicoes apenas registram o evento na fila
+ * (AccessLogRingBuffer) e uma thread em background formata e grava as linhas JSON
+ * na categoria dri.commerce.access (handler proprio em application.properties).
+ *
+ * Amostragem por classe de status (user.access-log.sample-rate.*); respostas 5xx
+ * sao sempre registradas. Eventos descartados por fila cheia sao contados em
+ * access.log.dropped.
+ */
+@ApplicationScoped
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = Logger.getLogger("dri.commerce.access");
+    private static final Logger LOG = Logger.getLogger(AccessLogWriter.class);
+
+    @ConfigProperty(name = "user.access-log.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "user.access-log.buffer-size", defaultValue = "8192")
+    int bufferSize;
+
+    @ConfigProperty(name = "user.access-log.flush-interval", defaultValue = "100ms")
+    Duration flushInterval;
+
+    @ConfigProperty(name = "user.access-log.sample-rate.2xx", defaultValue = "1.0")
+    double successSampleRate;
+
+    @ConfigProperty(name = "user.access-log.sample-rate.3xx", defaultValue = "1.0")
+    double redirectSampleRate;
+
+    @ConfigProperty(name = "user.access-log.sample-rate.4xx", defaultValue = "1.0")
+    double clientErrorSampleRate;
+
+    @Inject
+    MeterRegistry registry;
+
+    private AccessLogRingBuffer buffer;
+    private Counter dropped;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    @PostConstruct
+    void init() {
+        buffer = new AccessLogRingBuffer(bufferSize);
+        dropped = Counter.builder("access.log.dropped")
+                .description("Eventos de acesso descartados com a fila cheia")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("access-log-writer")
+                .daemon(true)
+                .start(this::run);
+        LOG.infof("Access log writer started (buffer %d events)", buffer.capacity());
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (writerThread == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(Duration.ofSeconds(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Registra uma resposta; chamado na thread da requisicao, nunca bloqueia
+     */
+    public void record(String method, String path, int status, long durationNanos, String error) {
+        if (!enabled || !sampled(status)) {
+            return;
+        }
+
+        if (!buffer.offer(System.currentTimeMillis(), method, path, status, durationNanos, error)) {
+            dropped.increment();
+        }
+    }
+
+    private boolean sampled(int status) {
+        double rate;
+        if (status >= 500) {
+            return true;
+        } else if (status >= 400) {
+            rate = clientErrorSampleRate;
+        } else if (status >= 300) {
+            rate = redirectSampleRate;
+        } else {
+            rate = successSampleRate;
+        }
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void run() {
+        long parkNanos = flushInterval.toNanos();
+
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(parkNanos);
+            }
+        }
+        drain();
+    }
+
+    private int drain() {
+        try {
+            return buffer.drain(this::write);
+        } catch (RuntimeException e) {
+            LOG.warnf("Failed to write access log: %s", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void write(AccessLogRingBuffer.AccessLogEvent event) {
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.timestampMillis)).append('"');
+        line.append(",\"method\":\"").append(event.method).append('"');
+        line.append(",\"path\":");
+        appendJsonString(event.path);
+        line.append(",\"status\":").append(event.status);
+        line.append(",\"duration_us\":").append(event.durationNanos / 1_000);
+        if (event.error != null) {
+            line.append(",\"error\":");
+            appendJsonString(event.error);
+        }
+        line.append('}');
+
+        ACCESS_LOG.info(line.toString());
+    }
+
+    private void appendJsonString(String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+}
@@ -1,18 +0,0 @@
-package dri.commerce.user.presentation.filter;
-
-import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerResponseContext;
-import jakarta.ws.rs.container.ContainerResponseFilter;
-import jakarta.ws.rs.ext.Provider;
-
-@Provider
-public class CorsFilter implements ContainerResponseFilter {
-
-    @Override
-    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
-        responseContext.getHeaders().add("Access-Control-Allow-Origin", "http://localhost:5173");        
-        responseContext.getHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");        
-        responseContext.getHeaders().add("Access-Control-Allow-Headers", "Content-Type, Authorization");        
-        responseContext.getHeaders().add("Access-Control-Max-Age", "3600");
-    }
-}
\ No newline at end of file
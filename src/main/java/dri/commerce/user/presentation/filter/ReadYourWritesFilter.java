@@ -0,0 +1,60 @@
+package dri.commerce.user.presentation.filter;
+
+import java.io.IOException;
+
+import dri.commerce.user.infrastructure.routing.ReadRoutingRequest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.NewCookie;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Leva a fixacao no primario de um no para os outros: respostas de escrita gravam o cookie
+ * read-primary-until e as requisicoes seguintes do mesmo cliente leem do primario ate o prazo,
+ * em qualquer no. Clientes sem cookies (ex: gRPC, servicos internos) ficam apenas com a fixacao
+ * local do no que recebeu a escrita.
+ */
+@Provider
+public class ReadYourWritesFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String COOKIE = "read-primary-until";
+
+    @Inject
+    ReadRoutingRequest readRoutingRequest;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        Cookie cookie = requestContext.getCookies().get(COOKIE);
+        if (cookie == null) {
+            return;
+        }
+
+        try {
+            readRoutingRequest.clientPinnedUntil(Long.parseLong(cookie.getValue()));
+        } catch (NumberFormatException e) {
+            // Cookie adulterado: ignora, a fixacao local do no continua valendo
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        long until = readRoutingRequest.writtenPinUntil();
+        if (until == 0) {
+            return;
+        }
+
+        int maxAge = (int) Math.max(1, (until - System.currentTimeMillis() + 999) / 1000);
+        NewCookie cookie = new NewCookie.Builder(COOKIE)
+                .value(Long.toString(until))
+                .path("/")
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .build();
+        responseContext.getHeaders().add(HttpHeaders.SET_COOKIE, cookie);
+    }
+}
@@ -0,0 +1,191 @@
+package dri.commerce.user.presentation.grpc;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import com.google.protobuf.Timestamp;
+
+import dri.commerce.auth.domain.exception.InvalidTokenException;
+import dri.commerce.auth.domain.service.TokenValidationService;
+import dri.commerce.user.application.cache.UserChangeFeed;
+import dri.commerce.user.application.usecase.FindUserByIdUseCase;
+import dri.commerce.user.application.usecase.FindUsersByIdsUseCase;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.exception.UserNotFoundException;
+import dri.commerce.user.presentation.grpc.proto.BatchGetUsersRequest;
+import dri.commerce.user.presentation.grpc.proto.BatchGetUsersResponse;
+import dri.commerce.user.presentation.grpc.proto.GetUserRequest;
+import dri.commerce.user.presentation.grpc.proto.IntrospectTokenRequest;
+import dri.commerce.user.presentation.grpc.proto.IntrospectTokenResponse;
+import dri.commerce.user.presentation.grpc.proto.Role;
+import dri.commerce.user.presentation.grpc.proto.User;
+import dri.commerce.user.presentation.grpc.proto.UserChange;
+import dri.commerce.user.presentation.grpc.proto.UserLookup;
+import dri.commerce.user.presentation.grpc.proto.WatchUserChangesRequest;
+import io.grpc.Status;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+
+/**
+ * Servico gRPC interno de usuarios (mesmo servidor HTTP da API REST, sobre HTTP/2).
+ * Reaproveita os use cases dos endpoints REST equivalentes:
+ * - GetUser: FindUserByIdUseCase (busca reativa, sem cache de JSON)
+ * - BatchGetUsers: FindUsersByIdsUseCase (uma consulta por lote)
+ * - IntrospectToken: TokenValidationService
+ * - WatchUserChanges: UserChangeFeed (invalidacoes locais e de outros nos)
+ *
+ * Mesmas regras de acesso da API REST:
+ * - GetUser (GET /users/{id}): ADMIN busca qualquer usuario; CUSTOMER/SELLER apenas o proprio
+ *   (os demais IDs retornam PERMISSION_DENIED)
+ * - BatchGetUsers (POST /users/batch): ADMIN recebe todos os campos; os demais, apenas id, nome e role
+ */
+@GrpcService
+public class UserLookupGrpcService implements UserLookup {
+
+    private static final int MAX_BATCH_IDS = 500;
+
+    @Inject
+    FindUserByIdUseCase findUserByIdUseCase;
+
+    @Inject
+    FindUsersByIdsUseCase findUsersByIdsUseCase;
+
+    @Inject
+    TokenValidationService tokenValidationService;
+
+    @Inject
+    UserChangeFeed userChangeFeed;
+
+    @Inject
+    SecurityIdentity securityIdentity;
+
+    @Override
+    @RolesAllowed({"ADMIN", "CUSTOMER", "SELLER"})
+    public Uni<User> getUser(GetUserRequest request) {
+        if (!isAdmin() && !request.getId().equals(securityIdentity.getPrincipal().getName())) {
+            return Uni.createFrom().failure(Status.PERMISSION_DENIED
+                    .withDescription("Voce nao tem permissao para acessar dados de outro usuario")
+                    .asRuntimeException());
+        }
+
+        return findUserByIdUseCase.executeAsync(request.getId())
+                .map(user -> toProto(user, true))
+                .onFailure().transform(UserLookupGrpcService::toStatus);
+    }
+
+    @Override
+    @RunOnVirtualThread
+    @RolesAllowed({"ADMIN", "CUSTOMER", "SELLER"})
+    public Uni<BatchGetUsersResponse> batchGetUsers(BatchGetUsersRequest request) {
+        if (request.getIdsCount() == 0 || request.getIdsCount() > MAX_BATCH_IDS) {
+            return Uni.createFrom().failure(Status.INVALID_ARGUMENT
+                    .withDescription("Between 1 and " + MAX_BATCH_IDS + " ids per request")
+                    .asRuntimeException());
+        }
+
+        FindUsersByIdsUseCase.BatchResult result = findUsersByIdsUseCase.execute(request.getIdsList());
+        boolean admin = isAdmin();
+
+        BatchGetUsersResponse.Builder response = BatchGetUsersResponse.newBuilder()
+                .addAllMissing(result.missing());
+        for (UserDomain user : result.users()) {
+            response.addUsers(toProto(user, admin));
+        }
+        return Uni.createFrom().item(response.build());
+    }
+
+    @Override
+    @PermitAll
+    public Uni<IntrospectTokenResponse> introspectToken(IntrospectTokenRequest request) {
+        return Uni.createFrom().item(() -> introspect(request.getToken()));
+    }
+
+    @Override
+    @RolesAllowed({"ADMIN"})
+    public Multi<UserChange> watchUserChanges(WatchUserChangesRequest request) {
+        return userChangeFeed.stream()
+                .map(change -> UserChange.newBuilder()
+                        .setUserId(change.userId() != null ? change.userId() : "")
+                        .setResync(change.resync())
+                        .build())
+                .onFailure(BackPressureFailure.class).transform(failure -> Status.RESOURCE_EXHAUSTED
+                        .withDescription("Subscriber too slow, reconnect and resync")
+                        .asRuntimeException());
+    }
+
+    private IntrospectTokenResponse introspect(String token) {
+        JsonWebToken jwt;
+        try {
+            jwt = tokenValidationService.validateAndDecode(token);
+        } catch (InvalidTokenException e) {
+            return IntrospectTokenResponse.newBuilder().setActive(false).build();
+        }
+
+        // Refresh tokens nao dao acesso a API
+        Object type = jwt.getClaim("type");
+        if (type != null && "refresh".equals(type.toString())) {
+            return IntrospectTokenResponse.newBuilder().setActive(false).build();
+        }
+
+        IntrospectTokenResponse.Builder response = IntrospectTokenResponse.newBuilder()
+                .setActive(true)
+                .setSubject(jwt.getSubject() != null ? jwt.getSubject() : "")
+                .addAllRoles(jwt.getGroups())
+                .setExpiresAt(Timestamp.newBuilder().setSeconds(jwt.getExpirationTime()));
+
+        Object email = jwt.getClaim("email");
+        if (email != null) {
+            response.setEmail(email.toString());
+        }
+        return response.build();
+    }
+
+    private boolean isAdmin() {
+        return securityIdentity.hasRole("ADMIN");
+    }
+
+    private static User toProto(UserDomain user, boolean fullAccess) {
+        User.Builder builder = User.newBuilder()
+                .setId(user.id().value())
+                .setName(user.name())
+                .setRole(Role.forNumber(user.role().getCode()));
+
+        if (fullAccess) {
+            builder.setEmail(user.email().value())
+                    .setActive(Boolean.TRUE.equals(user.active()));
+            if (user.createdAt() != null) {
+                builder.setCreatedAt(toTimestamp(user.createdAt()));
+            }
+            if (user.updatedAt() != null) {
+                builder.setUpdatedAt(toTimestamp(user.updatedAt()));
+            }
+        }
+        return builder.build();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        Instant instant = value.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static Throwable toStatus(Throwable failure) {
+        return switch (failure) {
+            case UserNotFoundException ex -> Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+            case IllegalArgumentException ex -> Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException();
+            default -> failure;
+        };
+    }
+}
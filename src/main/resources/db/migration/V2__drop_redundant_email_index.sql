@@ -0,0 +1,2 @@
+-- A constraint UNIQUE de users.email ja cria um indice; idx_users_email duplicava o custo de escrita
+DROP INDEX IF EXISTS idx_users_email;
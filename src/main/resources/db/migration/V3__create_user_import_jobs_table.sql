@@ -0,0 +1,11 @@
+CREATE TABLE user_import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    source VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_line BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    duplicates BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,82 @@
+-- Contadores de usuarios por papel, status e dia de cadastro, mantidos por triggers
+-- de statement (um UPDATE por grupo afetado, nao por linha: COPY/merge em lote fica barato).
+-- archived separa as linhas contadas por tabelas de arquivo (o argumento do trigger, padrao false)
+-- bucket divide cada contador em 8 linhas (pela conexao): cadastros simultaneos do mesmo
+-- dia nao disputam a mesma linha. Leituras sempre somam os buckets; um bucket pode ficar
+-- negativo quando a remocao acontece em outra conexao que o cadastro, mas a soma e exata.
+-- As linhas sao sempre gravadas na ordem da chave, para que lotes concorrentes travem as
+-- mesmas linhas na mesma ordem (sem deadlock).
+CREATE TABLE user_stats (
+    role INTEGER NOT NULL,
+    active BOOLEAN NOT NULL,
+    archived BOOLEAN NOT NULL DEFAULT false,
+    signup_day DATE NOT NULL,
+    bucket SMALLINT NOT NULL DEFAULT 0,
+    total BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (role, active, archived, signup_day, bucket)
+);
+
+INSERT INTO user_stats (role, active, signup_day, total)
+SELECT role, active, COALESCE(created_at::date, DATE '1970-01-01'), count(*)
+FROM users
+GROUP BY 1, 2, 3;
+
+CREATE FUNCTION user_stats_bucket() RETURNS smallint AS $$
+    SELECT (pg_backend_pid() % 8)::smallint;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION user_stats_on_insert() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO user_stats (role, active, archived, signup_day, bucket, total)
+    SELECT role, active, COALESCE(TG_ARGV[0]::boolean, false), COALESCE(created_at::date, DATE '1970-01-01'),
+           user_stats_bucket(), count(*)
+    FROM new_rows
+    GROUP BY 1, 2, 3, 4
+    ORDER BY 1, 2, 3, 4
+    ON CONFLICT (role, active, archived, signup_day, bucket) DO UPDATE SET total = user_stats.total + EXCLUDED.total;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION user_stats_on_delete() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO user_stats (role, active, archived, signup_day, bucket, total)
+    SELECT role, active, COALESCE(TG_ARGV[0]::boolean, false), COALESCE(created_at::date, DATE '1970-01-01'),
+           user_stats_bucket(), -count(*)
+    FROM old_rows
+    GROUP BY 1, 2, 3, 4
+    ORDER BY 1, 2, 3, 4
+    ON CONFLICT (role, active, archived, signup_day, bucket) DO UPDATE SET total = user_stats.total + EXCLUDED.total;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Atualizacoes que nao mudam papel, status ou data de cadastro (ex: nome) nao tocam a tabela
+CREATE FUNCTION user_stats_on_update() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO user_stats (role, active, archived, signup_day, bucket, total)
+    SELECT role, active, COALESCE(TG_ARGV[0]::boolean, false), signup_day, user_stats_bucket(), sum(delta)
+    FROM (
+        SELECT role, active, COALESCE(created_at::date, DATE '1970-01-01') AS signup_day, -1 AS delta FROM old_rows
+        UNION ALL
+        SELECT role, active, COALESCE(created_at::date, DATE '1970-01-01') AS signup_day, 1 AS delta FROM new_rows
+    ) changes
+    GROUP BY 1, 2, 3, 4
+    HAVING sum(delta) <> 0
+    ORDER BY 1, 2, 3, 4
+    ON CONFLICT (role, active, archived, signup_day, bucket) DO UPDATE SET total = user_stats.total + EXCLUDED.total;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_stats_insert AFTER INSERT ON users
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_stats_on_insert();
+
+CREATE TRIGGER trg_user_stats_delete AFTER DELETE ON users
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_stats_on_delete();
+
+CREATE TRIGGER trg_user_stats_update AFTER UPDATE ON users
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_stats_on_update();
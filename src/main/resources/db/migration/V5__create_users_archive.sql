@@ -0,0 +1,20 @@
+-- Usuarios inativos ha muito tempo saem da tabela quente para users_archive
+-- (movidos em lotes pelo job de arquivamento e restaurados na reativacao)
+CREATE TABLE users_archive (LIKE users INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING INDEXES);
+ALTER TABLE users_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT now();
+
+-- Arquivados continuam contando nas estatisticas (como inativos), em linhas archived = true:
+-- a contagem da listagem paginada, que le apenas users, os exclui
+CREATE TRIGGER trg_user_stats_archive_insert AFTER INSERT ON users_archive
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_stats_on_insert('true');
+
+CREATE TRIGGER trg_user_stats_archive_delete AFTER DELETE ON users_archive
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_stats_on_delete('true');
+
+-- Indice em coluna booleana quase nao filtra. A listagem paginada (ORDER BY created_at DESC,
+-- sem filtro de status) usa o indice completo; o job de arquivamento, o parcial dos inativos
+DROP INDEX IF EXISTS idx_users_active;
+CREATE INDEX idx_users_created_at ON users (created_at DESC);
+CREATE INDEX idx_users_inactive_updated_at ON users (updated_at) WHERE NOT active;
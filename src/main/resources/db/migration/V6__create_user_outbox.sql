@@ -0,0 +1,9 @@
+-- Outbox de eventos de usuario: gravada na mesma transacao da escrita e
+-- drenada (e apagada) pelo relay
+CREATE TABLE user_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,2 @@
+-- Versao do usuario (ETag) consultada por index-only scan, sem ler a linha completa
+CREATE INDEX idx_users_id_version ON users (id) INCLUDE (updated_at, created_at);
@@ -0,0 +1,42 @@
+package dri.commerce.support;
+
+import java.util.Map;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * PostgreSQL descartavel (Testcontainers) para testes que exercitam o SQL real:
+ * migrations Flyway, triggers e CTEs dos repositorios. Primario e replica apontam para o mesmo banco.
+ */
+public class PostgresTestResource implements QuarkusTestResourceLifecycleManager {
+
+    private PostgreSQLContainer<?> postgres;
+
+    @Override
+    public Map<String, String> start() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("dri-commerce")
+                .withUsername("postgres")
+                .withPassword("postgres");
+        postgres.start();
+
+        String reactiveUrl = "postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/dri-commerce";
+        return Map.of(
+                "quarkus.datasource.jdbc.url", postgres.getJdbcUrl(),
+                "quarkus.datasource.replica.jdbc.url", postgres.getJdbcUrl(),
+                "quarkus.datasource.reactive.url", reactiveUrl,
+                "quarkus.datasource.replica.reactive.url", reactiveUrl,
+                "quarkus.datasource.username", postgres.getUsername(),
+                "quarkus.datasource.password", postgres.getPassword()
+        );
+    }
+
+    @Override
+    public void stop() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
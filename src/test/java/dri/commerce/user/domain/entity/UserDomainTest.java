@@ -0,0 +1,87 @@
+package dri.commerce.user.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserField;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+import dri.commerce.user.domain.valueobject.UserPassword;
+
+class UserDomainTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private final UserDomain user = UserDomain.restore(
+            new UserId("0b7c3c5e-8f0a-4d7b-9a51-3f1c2d4e5a6b"),
+            "Maria Silva",
+            new UserEmail("maria@example.com"),
+            UserPassword.fromHash("$2a$10$hash"),
+            Role.CUSTOMER,
+            CREATED_AT,
+            CREATED_AT,
+            true);
+
+    @Test
+    void applyWithoutChangesReturnsSameUser() {
+        UserUpdate update = user.apply(UserChangeSet.of());
+
+        assertSame(user, update.user());
+        assertFalse(update.hasChanges());
+    }
+
+    @Test
+    void applyIgnoresValuesEqualToCurrentOnes() {
+        UserUpdate update = user.apply(UserChangeSet.of()
+                .name("  Maria Silva ")
+                .email(new UserEmail("maria@example.com"))
+                .role(Role.CUSTOMER)
+                .active(true));
+
+        assertSame(user, update.user());
+        assertFalse(update.hasChanges());
+    }
+
+    @Test
+    void applyBuildsOneCopyWithAllChangedFields() {
+        UserUpdate update = user.apply(UserChangeSet.of()
+                .name("Maria Souza")
+                .email(new UserEmail("souza@example.com"))
+                .role(Role.SELLER)
+                .active(false));
+
+        UserDomain updated = update.user();
+        assertNotSame(user, updated);
+        assertEquals(EnumSet.of(UserField.NAME, UserField.EMAIL, UserField.ROLE, UserField.ACTIVE),
+                update.changedFields());
+        assertEquals("Maria Souza", updated.name());
+        assertEquals("souza@example.com", updated.email().value());
+        assertEquals(Role.SELLER, updated.role());
+        assertFalse(updated.isActive());
+        assertSame(user.password(), updated.password());
+        assertEquals(user.id(), updated.id());
+        assertEquals(CREATED_AT, updated.createdAt());
+        assertTrue(updated.updatedAt().isAfter(CREATED_AT));
+    }
+
+    @Test
+    void applyTracksOnlyTheFieldsThatChanged() {
+        UserUpdate update = user.apply(UserChangeSet.of()
+                .name("Maria Silva")
+                .password(UserPassword.fromHash("$2a$10$other")));
+
+        assertEquals(EnumSet.of(UserField.PASSWORD), update.changedFields());
+        assertTrue(update.changed(UserField.PASSWORD));
+        assertFalse(update.changed(UserField.NAME));
+        assertEquals("$2a$10$other", update.user().password().value());
+    }
+}
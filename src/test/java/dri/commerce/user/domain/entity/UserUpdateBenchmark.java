@@ -0,0 +1,68 @@
+package dri.commerce.user.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+import dri.commerce.user.domain.valueobject.UserPassword;
+
+/**
+ * Atualizacao administrativa (nome, email, role e status) com UserDomain.apply contra a cadeia
+ * updateInfo/updateRole/deactivate usada antes (uma copia e um now() por passo).
+ * ./mvnw -Pjmh test -Djmh.benchmarks=UserUpdateBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserUpdateBenchmark {
+
+    UserDomain user = UserDomain.restore(
+            new UserId("0b7c3c5e-8f0a-4d7b-9a51-3f1c2d4e5a6b"),
+            "Maria Silva",
+            new UserEmail("maria@example.com"),
+            UserPassword.fromHash("$2a$10$hash"),
+            Role.CUSTOMER,
+            LocalDateTime.of(2024, 1, 1, 10, 0),
+            LocalDateTime.of(2024, 1, 1, 10, 0),
+            true);
+
+    UserEmail newEmail = new UserEmail("souza@example.com");
+
+    @Benchmark
+    public UserUpdate applyChangeSet() {
+        return user.apply(UserChangeSet.of()
+                .name("Maria Souza")
+                .email(newEmail)
+                .role(Role.SELLER)
+                .active(false));
+    }
+
+    @Benchmark
+    public UserDomain chainedCopies() {
+        return user.updateInfo("Maria Souza", newEmail)
+                .updateRole(Role.SELLER)
+                .deactivate();
+    }
+
+    @Benchmark
+    public UserUpdate applyWithoutChanges() {
+        return user.apply(UserChangeSet.of()
+                .name("Maria Silva")
+                .role(Role.CUSTOMER));
+    }
+}
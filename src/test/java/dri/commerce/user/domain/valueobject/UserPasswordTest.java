@@ -0,0 +1,38 @@
+package dri.commerce.user.domain.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.user.domain.exception.WeakPasswordException;
+
+class UserPasswordTest {
+
+    @Test
+    void ofAcceptsStrongPasswordsAndBcryptHashes() {
+        assertEquals("Str0ng!Passw0rd", UserPassword.of("Str0ng!Passw0rd").value());
+        assertEquals("$2a$10$abc", UserPassword.of("$2a$10$abc").value());
+    }
+
+    @Test
+    void ofRejectsWeakPasswords() {
+        assertThrows(WeakPasswordException.class, () -> UserPassword.of("short1!A"));
+        assertThrows(WeakPasswordException.class, () -> UserPassword.of("nouppercase123!"));
+        assertThrows(WeakPasswordException.class, () -> UserPassword.of("Line\nBreak123!xx"));
+    }
+
+    @Test
+    void fromHashWrapsAnyStoredHashWithoutValidation() {
+        // Hashes com outros prefixos (ex: $2b$, $argon2id$) nao passam pela verificacao de forca
+        assertEquals("$2b$12$legacy", UserPassword.fromHash("$2b$12$legacy").value());
+        assertEquals("$argon2id$v=19$m=65536", UserPassword.fromHash("$argon2id$v=19$m=65536").value());
+    }
+
+    @Test
+    void validateStrengthRequiresAllCharacterClasses() {
+        UserPassword.validateStrength("Str0ng!Passw0rd");
+        assertThrows(WeakPasswordException.class, () -> UserPassword.validateStrength("Str0ngPassw0rd"));
+        assertThrows(WeakPasswordException.class, () -> UserPassword.validateStrength(" "));
+    }
+}
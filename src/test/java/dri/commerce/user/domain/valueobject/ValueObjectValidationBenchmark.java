@@ -0,0 +1,66 @@
+package dri.commerce.user.domain.valueobject;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validacoes de UserId/UserPassword em uma passada contra as regex anteriores (String.matches
+ * compila um Pattern por chamada). Rodar com o profile jmh; gc.alloc.rate.norm mostra bytes por operacao:
+ * ./mvnw -Pjmh test -Djmh.benchmarks=ValueObjectValidationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueObjectValidationBenchmark {
+
+    private static final String UUID_REGEX =
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+    String id = UUID.randomUUID().toString();
+    String password = "Str0ng!Passw0rd";
+    String hash = "$2a$10$abcdefghijklmnopqrstuuJ5Vn8Yj9z3cKq4e2Qp1wR6tX7yZ0aBC";
+
+    @Benchmark
+    public UserId userIdSinglePass() {
+        return UserId.from(id);
+    }
+
+    @Benchmark
+    public boolean userIdRegex() {
+        return id.matches(UUID_REGEX);
+    }
+
+    @Benchmark
+    public UserPassword passwordSinglePass() {
+        return UserPassword.of(password);
+    }
+
+    @Benchmark
+    public boolean passwordRegex() {
+        return password.matches(".*[A-Z].*")
+                && password.matches(".*[a-z].*")
+                && password.matches(".*[0-9].*")
+                && password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*");
+    }
+
+    /**
+     * Caminho do UserMapper ao ler uma linha do banco: sem validacao
+     */
+    @Benchmark
+    public UserPassword restoreFromHash() {
+        return UserPassword.fromHash(hash);
+    }
+}
@@ -0,0 +1,53 @@
+package dri.commerce.user.infrastructure.blocklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DomainHashSetTest {
+
+    private final DomainHashSet set = DomainHashSet.of(List.of("mailinator.com", "tempmail.org", "mailinator.com"));
+
+    @Test
+    void matchesExactDomainIgnoringCase() {
+        assertTrue(set.containsDomainOrParent("mailinator.com"));
+        assertTrue(set.containsDomainOrParent("MailInator.COM"));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void matchesSubdomainsOfBlockedDomains() {
+        assertTrue(set.containsDomainOrParent("eu.mailinator.com"));
+        assertTrue(set.containsDomainOrParent("a.b.tempmail.org"));
+    }
+
+    @Test
+    void doesNotMatchSuffixesThatAreNotParentDomains() {
+        // "notmailinator.com" termina com "mailinator.com", mas nao e subdominio dele
+        assertFalse(set.containsDomainOrParent("notmailinator.com"));
+        assertFalse(set.containsDomainOrParent("com"));
+        assertFalse(set.containsDomainOrParent("mailinator.com.br"));
+        assertFalse(set.containsDomainOrParent("gmail.com"));
+        assertFalse(set.containsDomainOrParent(""));
+    }
+
+    @Test
+    void findsEveryDomainOfALargeSet() {
+        List<String> domains = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            domains.add("disposable" + i + ".example");
+        }
+        DomainHashSet large = DomainHashSet.of(domains);
+
+        for (String domain : domains) {
+            assertTrue(large.containsDomainOrParent("x." + domain), domain);
+        }
+        assertFalse(large.containsDomainOrParent("disposable10000.example"));
+        assertTrue(large.memoryBytes() >= 2L * domains.size() * Long.BYTES);
+    }
+}
@@ -0,0 +1,141 @@
+package dri.commerce.user.infrastructure.bloom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+class RegisteredEmailFilterTest {
+
+    /**
+     * Tabela de usuarios simulada: so enxerga emails ja "commitados"
+     */
+    static class SnapshotFilter extends RegisteredEmailFilter {
+
+        final Queue<String> committed = new ConcurrentLinkedQueue<>();
+        volatile Runnable duringSnapshot = () -> { };
+
+        SnapshotFilter() {
+            enabled = true;
+            expectedInsertions = 100_000;
+            falsePositiveRate = 0.0001;
+        }
+
+        @Override
+        long loadRegisteredEmails(BloomFilter next) {
+            List<String> snapshot = new ArrayList<>(committed);
+            duringSnapshot.run();
+            snapshot.forEach(next::put);
+            return snapshot.size();
+        }
+    }
+
+    @Test
+    void keepsEmailAddedBeforeRebuildAndCommittedAfterSnapshot() {
+        SnapshotFilter filter = new SnapshotFilter();
+        filter.rebuild();
+
+        // add() roda dentro da transacao do insert, antes do commit
+        filter.addLocal("late@example.com");
+        filter.rebuild();
+        filter.committed.add("late@example.com");
+
+        assertTrue(filter.mightContain("late@example.com"));
+    }
+
+    @Test
+    void keepsEmailAddedWhileSnapshotIsBeingRead() {
+        SnapshotFilter filter = new SnapshotFilter();
+        filter.rebuild();
+        filter.duringSnapshot = () -> filter.addLocal("during@example.com");
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("during@example.com"));
+    }
+
+    @Test
+    void dropsRecentEmailsOnlyAfterTheyReachASnapshot() {
+        SnapshotFilter filter = new SnapshotFilter();
+        filter.rebuild();
+        filter.addLocal("gone@example.com");
+
+        // Insert desfeito (rollback): some depois de duas reconstrucoes
+        filter.rebuild();
+        assertTrue(filter.mightContain("gone@example.com"));
+        filter.rebuild();
+        assertFalse(filter.mightContain("gone@example.com"));
+        assertEquals(1, filter.rejectedLookups());
+    }
+
+    @Test
+    void neverLosesEmailsAddedConcurrentlyWithRebuilds() throws Exception {
+        SnapshotFilter filter = new SnapshotFilter();
+        filter.duringSnapshot = Thread::yield;
+        filter.rebuild();
+
+        int writers = 8;
+        int emailsPerWriter = 2_000;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < emailsPerWriter; i++) {
+                        String email = "user-" + writer + "-" + i + "@example.com";
+                        filter.addLocal(email);
+                        // Janela entre add() e o commit do insert
+                        if (ThreadLocalRandom.current().nextInt(16) == 0) {
+                            LockSupport.parkNanos(50_000);
+                        }
+                        filter.committed.add(email);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> rebuilder = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    filter.rebuild();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            rebuilder.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < emailsPerWriter; i++) {
+                String email = "user-" + w + "-" + i + "@example.com";
+                assertTrue(filter.mightContain(email), email);
+            }
+        }
+        assertEquals(0, filter.rejectedLookups());
+    }
+}
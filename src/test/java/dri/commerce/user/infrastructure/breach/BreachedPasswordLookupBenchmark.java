@@ -0,0 +1,96 @@
+package dri.commerce.user.infrastructure.breach;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consulta ao arquivo mapeado (fanout + busca binaria) para senhas presentes e ausentes,
+ * separando o custo do SHA-1 (prefixOf) do custo da busca (contains).
+ * ./mvnw -Pjmh test -Djmh.benchmarks=BreachedPasswordLookupBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BreachedPasswordLookupBenchmark {
+
+    @Param({"100000", "2000000"})
+    int hashes;
+
+    Path directory;
+    MappedBreachedPasswordChecker checker;
+    long breachedPrefix;
+    long unknownPrefix;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("breached-benchmark");
+        Path input = directory.resolve("plain.txt");
+        Files.write(input, IntStream.range(0, hashes).mapToObj(i -> "password-" + i).toList());
+        Path output = directory.resolve("breached.bin");
+        BreachedPasswordFileConverter.convertPlainPasswords(input, output);
+
+        checker = new MappedBreachedPasswordChecker();
+        checker.path = Optional.of(output);
+        checker.onStart(null);
+
+        breachedPrefix = BreachedPasswordFile.prefixOf("password-" + (hashes / 2));
+        unknownPrefix = BreachedPasswordFile.prefixOf("not-breached");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public boolean breachedPassword() {
+        return checker.isBreached("password-" + (next++ % hashes));
+    }
+
+    @Benchmark
+    public boolean unknownPassword() {
+        return checker.isBreached("unknown-" + (next++ % hashes));
+    }
+
+    @Benchmark
+    public boolean searchHit() {
+        return checker.contains(breachedPrefix);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return checker.contains(unknownPrefix);
+    }
+
+    @Benchmark
+    public long sha1Prefix() {
+        return BreachedPasswordFile.prefixOf("password-" + (next++ % hashes));
+    }
+}
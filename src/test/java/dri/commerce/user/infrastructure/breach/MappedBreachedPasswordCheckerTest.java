@@ -0,0 +1,156 @@
+package dri.commerce.user.infrastructure.breach;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedBreachedPasswordCheckerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsEveryConvertedPasswordAndNothingElse() throws IOException {
+        Path input = directory.resolve("plain.txt");
+        Files.write(input, IntStream.range(0, 5_000).mapToObj(i -> "password-" + i).toList());
+        Path output = directory.resolve("breached.bin");
+
+        assertEquals(5_000, BreachedPasswordFileConverter.convertPlainPasswords(input, output));
+        MappedBreachedPasswordChecker checker = open(output);
+
+        assertEquals(5_000, checker.size());
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(checker.isBreached("password-" + i), "password-" + i);
+            assertFalse(checker.isBreached("other-" + i), "other-" + i);
+        }
+    }
+
+    @Test
+    void searchesTheFirstAndLastFanoutBucketsAndTheirNeighbours() throws IOException {
+        long[] prefixes = {
+                0L,
+                0x0000_FFFF_FFFF_FFFFL,
+                0x0001_0000_0000_0000L,
+                0x7FFF_FFFF_FFFF_FFFFL,
+                0x8000_0000_0000_0000L,
+                0xFFFE_FFFF_FFFF_FFFFL,
+                0xFFFF_0000_0000_0000L,
+                0xFFFF_FFFF_FFFF_FFFFL
+        };
+        MappedBreachedPasswordChecker checker = open(convertSorted(prefixes));
+
+        for (long prefix : prefixes) {
+            assertTrue(checker.contains(prefix), Long.toHexString(prefix));
+        }
+        assertFalse(checker.contains(1L));
+        assertFalse(checker.contains(0x0000_FFFF_FFFF_FFFEL));
+        assertFalse(checker.contains(0x0001_0000_0000_0001L));
+        assertFalse(checker.contains(0x7FFF_FFFF_FFFF_FFFEL));
+        assertFalse(checker.contains(0xFFFF_FFFF_FFFF_FFFEL));
+        assertFalse(checker.contains(0x1234_5678_9ABC_DEF0L));
+    }
+
+    @Test
+    void fanoutHoldsCumulativeCountsPerBucket() throws IOException {
+        long[] prefixes = {0x0000_0000_0000_0001L, 0x0000_0000_0000_0002L, 0x0002_0000_0000_0000L, 0xFFFF_0000_0000_0000L};
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(convertSorted(prefixes)));
+
+        assertEquals(BreachedPasswordFile.MAGIC, file.getInt(0));
+        assertEquals(4, file.getLong(Integer.BYTES));
+        assertEquals(2, fanoutAt(file, 0));
+        assertEquals(2, fanoutAt(file, 1));
+        assertEquals(3, fanoutAt(file, 2));
+        assertEquals(3, fanoutAt(file, 0xFFFE));
+        assertEquals(4, fanoutAt(file, 0xFFFF));
+        assertEquals(0x0002_0000_0000_0000L, file.getLong((int) BreachedPasswordFile.DATA_OFFSET + 2 * Long.BYTES));
+    }
+
+    @Test
+    void duplicatesAreWrittenOnce() throws IOException {
+        MappedBreachedPasswordChecker checker = open(convertSorted(new long[]{5L, 5L, 7L, 7L, 7L}));
+
+        assertEquals(2, checker.size());
+        assertTrue(checker.contains(5L));
+        assertTrue(checker.contains(7L));
+        assertFalse(checker.contains(6L));
+    }
+
+    @Test
+    void emptyFileFindsNothing() throws IOException {
+        MappedBreachedPasswordChecker checker = open(convertSorted(new long[0]));
+
+        assertEquals(0, checker.size());
+        assertFalse(checker.contains(0L));
+        assertFalse(checker.isBreached("password"));
+    }
+
+    @Test
+    void failedConversionKeepsThePreviousFileAndRemovesTheTemporaryOne() throws IOException {
+        Path output = convertSorted(new long[]{1L, 2L});
+        byte[] previous = Files.readAllBytes(output);
+
+        Path unordered = directory.resolve("unordered.txt");
+        Files.write(unordered, List.of(hex(2L), hex(1L)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BreachedPasswordFileConverter.convertSortedHashes(unordered, output));
+        assertArrayEquals(previous, Files.readAllBytes(output));
+        assertFalse(Files.exists(directory.resolve("breached.bin.tmp")));
+    }
+
+    @Test
+    void replacingTheFileDoesNotAffectAnAlreadyMappedChecker() throws IOException {
+        Path output = convertSorted(new long[]{1L, 2L, 3L});
+        MappedBreachedPasswordChecker checker = open(output);
+
+        Path input = directory.resolve("replacement.txt");
+        Files.write(input, List.of(hex(9L)));
+        BreachedPasswordFileConverter.convertSortedHashes(input, output);
+
+        assertTrue(checker.contains(2L));
+        assertTrue(open(output).contains(9L));
+        assertFalse(open(output).contains(2L));
+    }
+
+    private Path convertSorted(long[] prefixes) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (long prefix : prefixes) {
+            lines.add(hex(prefix) + "0123ABCD:" + lines.size());
+        }
+        Path input = directory.resolve("sorted.txt");
+        Files.write(input, lines);
+
+        Path output = directory.resolve("breached.bin");
+        BreachedPasswordFileConverter.convertSortedHashes(input, output);
+        return output;
+    }
+
+    private static MappedBreachedPasswordChecker open(Path file) {
+        MappedBreachedPasswordChecker checker = new MappedBreachedPasswordChecker();
+        checker.path = Optional.of(file);
+        checker.onStart(null);
+        return checker;
+    }
+
+    private static int fanoutAt(ByteBuffer file, int bucket) {
+        return file.getInt(BreachedPasswordFile.HEADER_BYTES + bucket * Integer.BYTES);
+    }
+
+    private static String hex(long prefix) {
+        return String.format("%016X", prefix);
+    }
+}
@@ -0,0 +1,119 @@
+package dri.commerce.user.infrastructure.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.support.PostgresTestResource;
+import dri.commerce.user.domain.entity.UserChangeSet;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.enums.Role;
+import dri.commerce.user.domain.enums.UserEventType;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserPassword;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Outbox contra o PostgreSQL real: evento gravado na transacao da escrita,
+ * ordem por usuario e um unico relay drenando por vez (advisory lock)
+ */
+@QuarkusTest
+@WithTestResource(PostgresTestResource.class)
+class UserOutboxRelayTest {
+
+    private static final String HASH = "$2a$10$abcdefghijklmnopqrstuuJ5Vn8Yj9z3cKq4e2Qp1wR6tX7yZ0aBC";
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    InMemoryUserEventSink sink;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    void publishesEventsOfAUserInWriteOrder() throws InterruptedException {
+        UserDomain user = createUser();
+        user = userRepository.update(user.apply(UserChangeSet.of().name("Second Name")));
+        user = userRepository.update(user.apply(UserChangeSet.of().active(false)));
+        userRepository.update(user.apply(UserChangeSet.of().role(Role.SELLER)));
+
+        List<UserEvent> events = awaitEvents(user.id().value(), 4);
+
+        assertEquals(List.of(UserEventType.CREATED, UserEventType.UPDATED, UserEventType.DEACTIVATED,
+                UserEventType.ROLE_CHANGED), events.stream().map(UserEvent::type).toList());
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(events.get(i - 1).sequence() < events.get(i).sequence());
+        }
+        assertTrue(events.get(1).payload().contains("Second Name"));
+    }
+
+    @Test
+    void onlyOneRelayDrainsAtATime() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // Simula outro no segurando o lock do relay
+            Future<?> otherNode = executor.submit(() -> QuarkusTransaction.requiringNew().run(() -> {
+                entityManager.createNativeQuery("SELECT pg_advisory_xact_lock(?1)")
+                        .setParameter(1, UserOutboxRelay.RELAY_LOCK_KEY)
+                        .getSingleResult();
+                locked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            UserDomain user = createUser();
+            Thread.sleep(2_500);
+            assertTrue(eventsOf(user.id().value()).isEmpty());
+
+            release.countDown();
+            otherNode.get(10, TimeUnit.SECONDS);
+            assertEquals(1, awaitEvents(user.id().value(), 1).size());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private UserDomain createUser() {
+        String unique = UUID.randomUUID().toString();
+        return userRepository.save(UserDomain.create(
+                "Outbox Test", new UserEmail(unique + "@example.com"), UserPassword.fromHash(HASH), Role.CUSTOMER));
+    }
+
+    private List<UserEvent> eventsOf(String userId) {
+        return sink.events().stream().filter(event -> event.userId().equals(userId)).toList();
+    }
+
+    private List<UserEvent> awaitEvents(String userId, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        List<UserEvent> events = eventsOf(userId);
+        while (events.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            events = eventsOf(userId);
+        }
+        return events;
+    }
+}
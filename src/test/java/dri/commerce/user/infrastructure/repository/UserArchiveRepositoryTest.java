@@ -0,0 +1,211 @@
+package dri.commerce.user.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.support.PostgresTestResource;
+import dri.commerce.user.application.usecase.ActivateUserUseCase;
+import dri.commerce.user.application.usecase.AdminUpdateUserUseCase;
+import dri.commerce.user.application.usecase.BulkUpdateUsersUseCase;
+import dri.commerce.user.application.usecase.BulkUpdateUsersUseCase.ItemStatus;
+import dri.commerce.user.domain.entity.Page;
+import dri.commerce.user.domain.entity.UserDomain;
+import dri.commerce.user.domain.entity.UserUpdate;
+import dri.commerce.user.domain.enums.BulkUserOperation;
+import dri.commerce.user.domain.enums.UserField;
+import dri.commerce.user.domain.exception.EmailAlreadyExistsException;
+import dri.commerce.user.domain.repository.UserRepository;
+import dri.commerce.user.domain.repository.UserStatsRepository;
+import dri.commerce.user.domain.valueobject.UserEmail;
+import dri.commerce.user.domain.valueobject.UserId;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Arquivamento e restauracao contra o PostgreSQL real: CTEs de ARCHIVE_INACTIVE/RESTORE_ARCHIVED
+ * e os triggers de user_stats (arquivados contam nas estatisticas, mas nao na listagem)
+ */
+@QuarkusTest
+@WithTestResource(PostgresTestResource.class)
+class UserArchiveRepositoryTest {
+
+    private static final String HASH = "$2a$10$abcdefghijklmnopqrstuuJ5Vn8Yj9z3cKq4e2Qp1wR6tX7yZ0aBC";
+    private static final LocalDateTime LONG_AGO = LocalDateTime.now().minusYears(5);
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    UserStatsRepository userStatsRepository;
+
+    @Inject
+    ActivateUserUseCase activateUserUseCase;
+
+    @Inject
+    AdminUpdateUserUseCase adminUpdateUserUseCase;
+
+    @Inject
+    BulkUpdateUsersUseCase bulkUpdateUsersUseCase;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    void archivedUsersLeaveTheListingTotalButStayInStats() {
+        UserId first = insertInactive();
+        UserId second = insertInactive();
+
+        List<UserId> archived = userRepository.archiveInactive(LONG_AGO.plusDays(1), 1000);
+
+        assertTrue(archived.containsAll(List.of(first, second)));
+        assertFalse(userRepository.findById(first).isPresent());
+        assertCountersMatchTables();
+
+        // A ultima pagina da listagem nao pode vir vazia
+        Page<UserDomain> firstPage = userRepository.findAll(1, 2);
+        Page<UserDomain> lastPage = userRepository.findAll(firstPage.totalPages(), 2);
+        assertEquals(firstPage.total() - (firstPage.totalPages() - 1) * 2L, lastPage.content().size());
+    }
+
+    @Test
+    void restoreBringsUserBackInactive() {
+        UserId id = archive(insertInactive());
+
+        assertTrue(userRepository.restoreArchived(id));
+
+        UserDomain restored = userRepository.findById(id).orElseThrow();
+        assertFalse(restored.isActive());
+        assertFalse(userRepository.restoreArchived(id));
+        assertCountersMatchTables();
+    }
+
+    @Test
+    void restoreKeepsUserArchivedWhenEmailWasReused() {
+        UserId id = archive(insertInactive());
+        insertUser(UUID.randomUUID().toString(), emailOf(id), true, LocalDateTime.now());
+
+        assertThrows(EmailAlreadyExistsException.class, () -> userRepository.restoreArchived(id));
+        assertEquals(1L, countArchived(id));
+        assertCountersMatchTables();
+    }
+
+    @Test
+    void everyActivationPathRestoresArchivedUsers() {
+        UserId single = archive(insertInactive());
+        UserId admin = archive(insertInactive());
+        UserId bulk = archive(insertInactive());
+
+        assertTrue(activateUserUseCase.execute(single.value()).isActive());
+        assertTrue(adminUpdateUserUseCase.execute(admin.value(), null, null, null, true).isActive());
+
+        BulkUpdateUsersUseCase.BulkResult result =
+                bulkUpdateUsersUseCase.execute(List.of(bulk.value()), BulkUserOperation.ACTIVATE, null);
+        assertEquals(ItemStatus.UPDATED, result.results().get(0).status());
+        assertTrue(userRepository.findById(bulk).orElseThrow().isActive());
+
+        assertCountersMatchTables();
+    }
+
+    @Test
+    void bulkActivationReportsEmailConflicts() {
+        UserId id = archive(insertInactive());
+        insertUser(UUID.randomUUID().toString(), emailOf(id), true, LocalDateTime.now());
+
+        BulkUpdateUsersUseCase.BulkResult result =
+                bulkUpdateUsersUseCase.execute(List.of(id.value()), BulkUserOperation.ACTIVATE, null);
+
+        assertEquals(ItemStatus.EMAIL_CONFLICT, result.results().get(0).status());
+    }
+
+    @Test
+    void liveUsersCannotTakeAnArchivedEmail() {
+        UserId archivedId = archive(insertInactive());
+        UserId liveId = insertInactive();
+        UserDomain live = userRepository.findById(liveId).orElseThrow();
+
+        UserUpdate update = new UserUpdate(live.updateInfo(live.name(), new UserEmail(emailOf(archivedId))),
+                Set.of(UserField.EMAIL));
+        assertThrows(EmailAlreadyExistsException.class, () -> userRepository.update(update));
+        assertEquals(emailOf(liveId), userRepository.findById(liveId).orElseThrow().email().value());
+    }
+
+    @Test
+    void archivingSkipsRowsWhoseEmailIsAlreadyArchived() {
+        UserId archivedId = archive(insertInactive());
+        UserId other = insertInactive();
+        String clashing = UUID.randomUUID().toString();
+        // Estado anterior a guarda no update: um usuario vivo com o email de um arquivado
+        insertUser(clashing, emailOf(archivedId), false, LONG_AGO);
+
+        List<UserId> archived = userRepository.archiveInactive(LONG_AGO.plusDays(1), 1000);
+
+        assertTrue(archived.contains(other));
+        assertFalse(archived.contains(new UserId(clashing)));
+        assertTrue(userRepository.findById(new UserId(clashing)).isPresent());
+        assertCountersMatchTables();
+    }
+
+    private UserId archive(UserId id) {
+        assertTrue(userRepository.archiveInactive(LONG_AGO.plusDays(1), 1000).contains(id));
+        return id;
+    }
+
+    private UserId insertInactive() {
+        String id = UUID.randomUUID().toString();
+        insertUser(id, id + "@example.com", false, LONG_AGO);
+        return new UserId(id);
+    }
+
+    private static String emailOf(UserId id) {
+        return id.value() + "@example.com";
+    }
+
+    private void insertUser(String id, String email, boolean active, LocalDateTime updatedAt) {
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery("""
+                        INSERT INTO users (id, name, email, password, role, created_at, updated_at, active)
+                        VALUES (?1, 'Archive Test', ?2, ?3, 1, ?4, ?4, ?5)
+                        """)
+                .setParameter(1, id)
+                .setParameter(2, email)
+                .setParameter(3, HASH)
+                .setParameter(4, updatedAt)
+                .setParameter(5, active)
+                .executeUpdate());
+    }
+
+    private long countArchived(UserId id) {
+        return QuarkusTransaction.requiringNew().call(() -> ((Number) entityManager
+                .createNativeQuery("SELECT count(*) FROM users_archive WHERE id = ?1")
+                .setParameter(1, id.value())
+                .getSingleResult()).longValue());
+    }
+
+    /**
+     * Os contadores mantidos por trigger devem bater com as tabelas: a listagem conta
+     * apenas users; as estatisticas, users + users_archive
+     */
+    private void assertCountersMatchTables() {
+        Object[] row = QuarkusTransaction.requiringNew().call(() -> (Object[]) entityManager.createNativeQuery("""
+                SELECT (SELECT count(*) FROM users),
+                       (SELECT count(*) FROM users_archive),
+                       (SELECT COALESCE(SUM(total), 0) FROM user_stats)
+                """).getSingleResult());
+        long users = ((Number) row[0]).longValue();
+        long archived = ((Number) row[1]).longValue();
+
+        assertEquals(users, QuarkusTransaction.requiringNew().call(userStatsRepository::countAll));
+        assertEquals(users + archived, ((Number) row[2]).longValue());
+    }
+}
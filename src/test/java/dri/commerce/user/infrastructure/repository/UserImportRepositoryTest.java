@@ -0,0 +1,88 @@
+package dri.commerce.user.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.support.PostgresTestResource;
+import dri.commerce.user.domain.entity.ImportJob;
+import dri.commerce.user.domain.enums.ImportJobStatus;
+import dri.commerce.user.domain.exception.ImportJobAlreadyRunningException;
+import dri.commerce.user.domain.repository.UserImportRepository;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Retomada de importacoes: a linha do job e travada, entao apenas uma retomada passa
+ */
+@QuarkusTest
+@WithTestResource(PostgresTestResource.class)
+class UserImportRepositoryTest {
+
+    @Inject
+    UserImportRepository userImportRepository;
+
+    @Test
+    void concurrentResumesOfAFailedJobClaimItOnce() throws Exception {
+        ImportJob job = userImportRepository.createJob("test");
+        userImportRepository.updateStatus(job.id(), ImportJobStatus.FAILED);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ImportJob>> claims = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                claims.add(executor.submit(() -> {
+                    start.await();
+                    return userImportRepository.claimJob(job.id(), LocalDateTime.now().minusMinutes(5)).orElseThrow();
+                }));
+            }
+            start.countDown();
+
+            int claimed = 0;
+            int rejected = 0;
+            for (Future<ImportJob> claim : claims) {
+                try {
+                    assertEquals(ImportJobStatus.RUNNING, claim.get().status());
+                    claimed++;
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof ImportJobAlreadyRunningException, e.getCause().toString());
+                    rejected++;
+                }
+            }
+            assertEquals(1, claimed);
+            assertEquals(3, rejected);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void staleRunningJobCanBeResumedAndCompletedJobIsReturnedAsIs() {
+        ImportJob job = userImportRepository.createJob("test");
+
+        assertThrows(ImportJobAlreadyRunningException.class,
+                () -> userImportRepository.claimJob(job.id(), LocalDateTime.now().minusMinutes(5)));
+
+        // Sem progresso desde o corte: o no que rodava o job e considerado morto
+        ImportJob resumed = userImportRepository.claimJob(job.id(), LocalDateTime.now().plusSeconds(1)).orElseThrow();
+        assertEquals(ImportJobStatus.RUNNING, resumed.status());
+
+        userImportRepository.updateStatus(job.id(), ImportJobStatus.COMPLETED);
+        assertEquals(ImportJobStatus.COMPLETED,
+                userImportRepository.claimJob(job.id(), LocalDateTime.now()).orElseThrow().status());
+        assertTrue(userImportRepository.claimJob("00000000-0000-0000-0000-000000000000", LocalDateTime.now()).isEmpty());
+    }
+}
@@ -0,0 +1,119 @@
+package dri.commerce.user.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.support.PostgresTestResource;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Triggers de user_stats sob escrita concorrente: lotes que tocam os mesmos contadores em
+ * ordens diferentes nao podem entrar em deadlock, e a soma dos buckets deve bater com users
+ */
+@QuarkusTest
+@WithTestResource(PostgresTestResource.class)
+class UserStatsTriggerTest {
+
+    private static final String HASH = "$2a$10$abcdefghijklmnopqrstuuJ5Vn8Yj9z3cKq4e2Qp1wR6tX7yZ0aBC";
+
+    /** 40 usuarios espalhados por 3 papeis e 10 dias; a ordem das linhas varia por thread */
+    private static final String INSERT_BATCH = """
+            INSERT INTO users (id, name, email, password, role, created_at, updated_at, active)
+            SELECT gen_random_uuid()::text, 'Stats User', gen_random_uuid()::text || '@stats.test', ?,
+                   1 + i % 3, now() - (i % 10) * interval '1 day', now(), true
+            FROM generate_series(1, 40) AS i
+            ORDER BY CASE WHEN ? THEN i ELSE -i END
+            """;
+
+    private static final String DEACTIVATE_SOME = """
+            UPDATE users SET active = false, updated_at = now()
+            WHERE email LIKE '%@stats.test' AND active AND random() < 0.3
+            """;
+
+    private static final String DELETE_SOME = "DELETE FROM users WHERE email LIKE '%@stats.test' AND random() < 0.1";
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void concurrentBatchesKeepCountersExactWithoutDeadlocks() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                boolean ascending = t % 2 == 0;
+                writers.add(executor.submit(() -> {
+                    for (int round = 0; round < 15; round++) {
+                        writeRound(ascending);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(countUsers(), sumStats());
+    }
+
+    private void writeRound(boolean ascending) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_BATCH);
+                 Statement statement = connection.createStatement()) {
+                insert.setString(1, HASH);
+                insert.setBoolean(2, ascending);
+                insert.executeUpdate();
+                statement.executeUpdate(DEACTIVATE_SOME);
+                statement.executeUpdate(DELETE_SOME);
+            }
+            connection.commit();
+        }
+    }
+
+    private Map<String, Long> countUsers() throws SQLException {
+        return groupedCounts("""
+                SELECT role || '/' || active || '/' || COALESCE(created_at::date, DATE '1970-01-01'), count(*) FROM users GROUP BY 1
+                """);
+    }
+
+    private Map<String, Long> sumStats() throws SQLException {
+        return groupedCounts("""
+                SELECT role || '/' || active || '/' || signup_day, SUM(total) FROM user_stats
+                WHERE NOT archived GROUP BY 1 HAVING SUM(total) <> 0
+                """);
+    }
+
+    private Map<String, Long> groupedCounts(String sql) throws SQLException {
+        Map<String, Long> counts = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                counts.put(resultSet.getString(1), resultSet.getLong(2));
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,39 @@
+package dri.commerce.user.presentation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class UserETagTest {
+
+    private static final LocalDateTime VERSION = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000);
+
+    private final String etag = UserETag.of("user-1", VERSION);
+
+    @Test
+    void matchesExactWeakWildcardAndListedTags() {
+        assertTrue(UserETag.matches(etag, etag));
+        assertTrue(UserETag.matches("W/" + etag, etag));
+        assertTrue(UserETag.matches("*", etag));
+        assertTrue(UserETag.matches("\"other\", " + etag + " ,\"x\"", etag));
+    }
+
+    @Test
+    void doesNotMatchMissingOrDifferentTags() {
+        assertFalse(UserETag.matches(null, etag));
+        assertFalse(UserETag.matches("  ", etag));
+        assertFalse(UserETag.matches("\"other\"", etag));
+        assertFalse(UserETag.matches(UserETag.of("user-1", VERSION.plusNanos(1_000)), etag));
+    }
+
+    @Test
+    void partialRepresentationsHaveTheirOwnTag() {
+        assertNotEquals(etag, UserETag.of("user-1", VERSION, 3));
+        assertNotEquals(UserETag.of("user-1", VERSION, 3), UserETag.of("user-1", VERSION, 5));
+        assertFalse(UserETag.matches(UserETag.of("user-1", VERSION, 3), etag));
+    }
+}
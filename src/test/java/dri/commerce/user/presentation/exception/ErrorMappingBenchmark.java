@@ -0,0 +1,87 @@
+package dri.commerce.user.presentation.exception;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dri.commerce.auth.domain.exception.InvalidCredentialsException;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Login com credenciais invalidas: throw de InvalidCredentialsException (sem stack trace)
+ * e mapeamento para o 401 com corpo em cache, contra um throw comum com stack trace.
+ * O lancamento fica em metodos nao inlinados para o JIT nao eliminar a excecao.
+ * ./mvnw -Pjmh test -Djmh.benchmarks=ErrorMappingBenchmark (gc.alloc.rate.norm = bytes por login)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorMappingBenchmark {
+
+    private static final String MESSAGE = "Email ou senha invalidos";
+
+    GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        ErrorBodies errorBodies = new ErrorBodies();
+        errorBodies.objectMapper = new ObjectMapper();
+        handler = new GlobalExceptionHandler();
+        handler.errorBodies = errorBodies;
+    }
+
+    @Benchmark
+    public Response throwAndMapInvalidCredentials() {
+        try {
+            failLogin();
+            return null;
+        } catch (InvalidCredentialsException e) {
+            return handler.toResponse(e);
+        }
+    }
+
+    @Benchmark
+    public Object throwInvalidCredentials() {
+        try {
+            failLogin();
+            return null;
+        } catch (InvalidCredentialsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwWithStackTrace() {
+        try {
+            failWithStackTrace();
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void failLogin() {
+        throw new InvalidCredentialsException(MESSAGE);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void failWithStackTrace() {
+        throw new IllegalStateException(MESSAGE);
+    }
+}
@@ -0,0 +1,45 @@
+package dri.commerce.user.presentation.fields;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import dri.commerce.user.domain.enums.UserAttribute;
+import jakarta.ws.rs.BadRequestException;
+
+class UserFieldSelectionTest {
+
+    @Test
+    void missingOrBlankFieldsSelectEverythingAllowed() {
+        assertSame(UserFieldSelection.ALL, UserFieldSelection.parse(null, UserFieldSelection.ALL));
+        assertSame(UserFieldSelection.ME, UserFieldSelection.parse("  ", UserFieldSelection.ME));
+        assertSame(UserFieldSelection.ME, UserFieldSelection.parse(" , ,", UserFieldSelection.ME));
+    }
+
+    @Test
+    void parsesJsonNamesIgnoringSpacesAndEmptyEntries() {
+        UserFieldSelection selection = UserFieldSelection.parse(" id, createdAt,,active ,", UserFieldSelection.ALL);
+
+        assertEquals(EnumSet.of(UserAttribute.ID, UserAttribute.CREATED_AT, UserAttribute.ACTIVE), selection.attributes());
+        assertFalse(selection.isAll());
+        assertEquals(selection, UserFieldSelection.parse("active,id,createdAt,id", UserFieldSelection.ALL));
+    }
+
+    @Test
+    void selectingEveryFieldIsAll() {
+        assertTrue(UserFieldSelection.parse("id,name,email,role,createdAt,updatedAt,active", UserFieldSelection.ALL).isAll());
+    }
+
+    @Test
+    void rejectsUnknownOrNotAllowedFields() {
+        assertThrows(BadRequestException.class, () -> UserFieldSelection.parse("id,password", UserFieldSelection.ALL));
+        assertThrows(BadRequestException.class, () -> UserFieldSelection.parse("created_at", UserFieldSelection.ALL));
+        assertThrows(BadRequestException.class, () -> UserFieldSelection.parse("id,active", UserFieldSelection.ME));
+    }
+}
@@ -0,0 +1,139 @@
+package dri.commerce.user.presentation.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwoWithMinimumOfFour() {
+        assertEquals(8, new AccessLogRingBuffer(5).capacity());
+        assertEquals(8, new AccessLogRingBuffer(8).capacity());
+        assertEquals(4, new AccessLogRingBuffer(1).capacity());
+    }
+
+    @Test
+    void drainsEventsInOrderAndClearsReferences() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        assertTrue(buffer.offer(1L, "GET", "/users/1", 200, 10L, null));
+        assertTrue(buffer.offer(2L, "POST", "/users", 500, 20L, "boom"));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, buffer.drain(event -> drained.add(event.method + " " + event.path + " " + event.status)));
+        assertEquals(List.of("GET /users/1 200", "POST /users 500"), drained);
+
+        // Os eventos sao reutilizados: as Strings nao ficam presas na fila depois do drain
+        buffer.drain(event -> { });
+        buffer.offer(3L, "GET", "/a", 200, 1L, null);
+        buffer.drain(event -> assertNull(event.error));
+        assertEquals(0, buffer.drain(event -> { }));
+    }
+
+    @Test
+    void dropsEventsWhenFullAndAcceptsAgainAfterDrain() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, "GET", "/" + i, 200, 1L, null));
+        }
+        assertFalse(buffer.offer(4L, "GET", "/4", 200, 1L, null));
+
+        assertEquals(4, buffer.drain(event -> { }));
+
+        // Varias voltas pela fila mantem a ordem
+        List<Long> timestamps = new ArrayList<>();
+        for (long i = 10; i < 20; i++) {
+            assertTrue(buffer.offer(i, "GET", "/", 200, 1L, null));
+            buffer.drain(event -> timestamps.add(event.timestampMillis));
+        }
+        assertEquals(10, timestamps.size());
+        assertEquals(10L, timestamps.get(0));
+        assertEquals(19L, timestamps.get(9));
+    }
+
+    @Test
+    void failingConsumerSkipsTheEventInsteadOfBlockingTheBuffer() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        buffer.offer(1L, "GET", "/bad", 200, 1L, null);
+        buffer.offer(2L, "GET", "/good", 200, 1L, null);
+
+        assertThrows(IllegalStateException.class, () -> buffer.drain(event -> {
+            throw new IllegalStateException("write failed");
+        }));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(1, buffer.drain(event -> drained.add(event.path)));
+        assertEquals(List.of("/good"), drained);
+
+        // A posicao do evento descartado volta a aceitar escritas
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, "GET", "/" + i, 200, 1L, null));
+        }
+    }
+
+    @Test
+    void concurrentProducersNeverLoseOrDuplicateAcceptedEvents() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        int[] accepted = new int[producers];
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    long id = (long) producer * perProducer + i;
+                    if (buffer.offer(id, "GET", "/", 200, 1L, null)) {
+                        accepted[producer]++;
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        Set<Long> seen = new HashSet<>();
+        int[] duplicates = new int[1];
+        start.countDown();
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            buffer.drain(event -> {
+                if (!seen.add(event.timestampMillis)) {
+                    duplicates[0]++;
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        buffer.drain(event -> {
+            if (!seen.add(event.timestampMillis)) {
+                duplicates[0]++;
+            }
+        });
+
+        int totalAccepted = 0;
+        for (int count : accepted) {
+            totalAccepted += count;
+        }
+        assertEquals(0, duplicates[0]);
+        assertEquals(totalAccepted, seen.size());
+    }
+}